@@ -0,0 +1,70 @@
+package org.system.citronix.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.system.citronix.dto.response.TreeResponse;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.mapper.TreeMapper;
+import org.system.citronix.mapper.TreeMapperImpl;
+import org.system.citronix.util.TreeAgeTable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a tree list the way TreeServiceImpl did before and after the age table:
+ * {@code LocalDate.now()} and two {@code Period} computations per tree, against one reference
+ * date and table lookups. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TreeMappingBenchmark {
+
+    @Param({"50000"})
+    private int treeCount;
+
+    private final TreeMapper treeMapper = new TreeMapperImpl();
+    private List<Tree> trees;
+
+    @Setup
+    public void setUp() {
+        Field field = Field.builder().id(1L).area(100.0).build();
+        LocalDate today = LocalDate.now();
+        Random random = new Random(42);
+
+        trees = new ArrayList<>(treeCount);
+        for (int i = 0; i < treeCount; i++) {
+            trees.add(Tree.builder()
+                    .id((long) i)
+                    .plantDate(today.minusDays(random.nextInt(25 * 365)))
+                    .field(field)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TreeResponse> periodPerTree() {
+        return trees.stream()
+                .map(tree -> treeMapper.toResponse(tree, LocalDate.now()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<TreeResponse> ageTable() {
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now());
+        return trees.stream()
+                .map(tree -> treeMapper.toResponse(tree, ageTable))
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package org.system.citronix.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.system.citronix.constant.CitronixConstants.FARM_NAME_UNIQUE_CONSTRAINT;
+import static org.system.citronix.constant.CitronixConstants.ID_ALLOCATION_SIZE;
+
+/**
+ * Brings an existing database in line with the current mappings once all beans are created and
+ * before the web server accepts requests. {@code ddl-auto: update} adds new sequences and columns
+ * but does not seed them from the rows already present.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMaintenance implements SmartInitializingSingleton {
+    // Pooled ID sequence -> table it numbers
+    private static final Map<String, String> ID_SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        ID_SEQUENCES.put("trees_seq", "trees");
+        ID_SEQUENCES.put("harvest_details_seq", "harvest_details");
+    }
+
+    static final String TREE_COUNT_BACKFILL = "backfill:fields.tree_count";
+    static final String ALLOCATED_AREA_BACKFILL = "backfill:farms.allocated_area";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureFarmNameConstraint();
+        alignIdSequences();
+        backfillTreeCounts();
+        backfillAllocatedAreas();
+    }
+
+    /**
+     * Makes sure farm names are unique in the database, since farm creation relies on the
+     * constraint instead of checking first. {@code ddl-auto: update} logs and skips the ALTER when
+     * duplicate names already exist, so startup fails here rather than running without it.
+     */
+    void ensureFarmNameConstraint() {
+        List<String> duplicates = jdbcTemplate.queryForList(
+                "SELECT name FROM farms GROUP BY name HAVING COUNT(*) > 1 ORDER BY name", String.class);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("Cannot enforce unique farm names, rename the duplicates first: "
+                    + String.join(", ", duplicates));
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints " +
+                        "WHERE LOWER(table_name) = 'farms' AND LOWER(constraint_name) = ?",
+                Integer.class, FARM_NAME_UNIQUE_CONSTRAINT);
+        if (existing == null || existing == 0) {
+            jdbcTemplate.execute("ALTER TABLE farms ADD CONSTRAINT " + FARM_NAME_UNIQUE_CONSTRAINT + " UNIQUE (name)");
+            log.info("Added missing constraint {}", FARM_NAME_UNIQUE_CONSTRAINT);
+        }
+    }
+
+    /**
+     * Moves each pooled ID sequence past the highest ID in its table. Hibernate hands out the
+     * block of {@code ID_ALLOCATION_SIZE} IDs ending at the value nextval returns, so a sequence
+     * created over a table that was numbered by IDENTITY would reuse existing IDs.
+     */
+    void alignIdSequences() {
+        ID_SEQUENCES.forEach((sequence, table) -> {
+            long next = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+            long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (next - ID_ALLOCATION_SIZE >= maxId) {
+                return;
+            }
+
+            long restart = (maxId + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE * ID_ALLOCATION_SIZE + ID_ALLOCATION_SIZE;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restart);
+            log.info("Moved sequence {} to {} past the highest {} ID {}", sequence, restart, table, maxId);
+        });
+    }
+
+    /**
+     * Seeds {@code fields.tree_count} from the trees table. The column is added with a default of
+     * 0, which would otherwise report every existing field as empty.
+     */
+    void backfillTreeCounts() {
+        backfillOnce(TREE_COUNT_BACKFILL,
+                "UPDATE fields f SET tree_count = (SELECT COUNT(*) FROM trees t WHERE t.field_id = f.id)");
+    }
+
+    /**
+     * Seeds {@code farms.allocated_area} with the same sum as {@code FarmRepository.recalculateAllocatedArea},
+     * for every farm at once.
+     */
+    void backfillAllocatedAreas() {
+        backfillOnce(ALLOCATED_AREA_BACKFILL,
+                "UPDATE farms f SET allocated_area = (SELECT COALESCE(SUM(fl.area), 0) FROM fields fl WHERE fl.farm_id = f.id)");
+    }
+
+    /**
+     * Runs a backfill statement unless its marker row already exists in summary_checkpoints. The
+     * marker is written first in the same transaction, so a second instance starting at the same
+     * time waits on the primary key and then skips.
+     */
+    private void backfillOnce(String name, String sql) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int marked = jdbcTemplate.update(
+                    "INSERT INTO summary_checkpoints (name, as_of) VALUES (?, CURRENT_DATE) ON CONFLICT DO NOTHING",
+                    name);
+            if (marked == 0) {
+                return;
+            }
+
+            int rows = jdbcTemplate.update(sql);
+            log.info("Backfill {} updated {} rows", name, rows);
+        });
+    }
+}
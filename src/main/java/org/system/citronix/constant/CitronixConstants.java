@@ -9,6 +9,7 @@ public final class CitronixConstants {
     public static final int YOUNG_TREE_AGE_LIMIT = 3;     // years
     public static final int MATURE_TREE_AGE_LIMIT = 10;   // years
     public static final int MAX_TREE_AGE = 20;            // years
+    public static final int TREE_AGE_TABLE_YEARS = 100;   // ages precomputed by TreeAgeTable
 
     // Field-related constants
     public static final double MIN_FIELD_AREA = 0.1;      // hectares
@@ -19,6 +20,33 @@ public final class CitronixConstants {
     // Planting period constants
     public static final int PLANTING_START_MONTH = 3;     // March
     public static final int PLANTING_END_MONTH = 5;       // May
+    public static final int MAX_TREE_BATCH_SIZE = 10000;  // trees per batch planting request
+
+    // Pagination constants
+    public static final int DEFAULT_PAGE_LIMIT = 50;
+    public static final int MAX_PAGE_LIMIT = 500;
+    public static final int TREE_STREAM_FETCH_SIZE = 1000; // rows per JDBC fetch when streaming trees
+
+    // Search constants
+    public static final double FARM_SEARCH_MIN_SIMILARITY = 0.5; // share of query trigrams a fuzzy match must contain
+
+    // Constraint names
+    public static final String FARM_NAME_UNIQUE_CONSTRAINT = "uk_farms_name";
+
+    // Forecast constants
+    public static final int DEFAULT_FORECAST_YEARS = 10;
+    public static final int MAX_FORECAST_YEARS = 50;
+    public static final int FORECAST_FETCH_SIZE = 10000;  // rows per JDBC fetch when loading plantings
+
+    // Persistence constants
+    public static final int ID_ALLOCATION_SIZE = 50;      // sequence increment, keep >= JDBC batch size
+
+    // Harvest job constants
+    public static final int DEFAULT_HARVEST_JOB_CHUNK_SIZE = 500;  // trees per transaction
+    public static final int MAX_HARVEST_JOB_CHUNK_SIZE = 5000;
+    public static final int HARVEST_JOB_STALE_MINUTES = 10;      // running job without a heartbeat counts as abandoned
+    public static final int MAX_HARVEST_BATCH_TREES = 10000;     // tree IDs per batch request
+    public static final long SQL_HARVEST_STRATEGY_THRESHOLD = 20000; // farm trees before AUTO switches to INSERT ... SELECT
 
     private CitronixConstants() {
         throw new IllegalStateException("Constants class");
@@ -9,18 +9,30 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.system.citronix.dto.request.FarmRequest;
+import org.system.citronix.dto.response.DeletionResponse;
+import org.system.citronix.dto.response.FarmDashboardResponse;
+import org.system.citronix.dto.response.FarmForecastResponse;
 import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.dto.response.FarmSearchResultResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.service.FarmDashboardService;
 import org.system.citronix.service.FarmService;
+import org.system.citronix.service.YieldForecastService;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_FORECAST_YEARS;
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_PAGE_LIMIT;
+
 @RestController
 @RequestMapping("/farms")
 @RequiredArgsConstructor
 @Tag(name = "Farm Management", description = "Endpoints for managing farms")
 public class FarmController {
     private final FarmService farmService;
+    private final YieldForecastService yieldForecastService;
+    private final FarmDashboardService farmDashboardService;
 
     @PostMapping
     @Operation(summary = "Create a new farm")
@@ -50,10 +62,38 @@ public class FarmController {
         return ResponseEntity.ok(farmService.getFarmWithFields(id));
     }
 
+    @GetMapping("/{id}/dashboard")
+    @Operation(summary = "Get the overview of a farm in a single call")
+    public ResponseEntity<FarmDashboardResponse> getFarmDashboard(@PathVariable Long id) {
+        return ResponseEntity.ok(farmDashboardService.getDashboard(id));
+    }
+
+    @GetMapping("/{id}/forecast")
+    @Operation(summary = "Forecast the yearly yield of a farm and its fields")
+    public ResponseEntity<FarmForecastResponse> forecastFarmYield(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "" + DEFAULT_FORECAST_YEARS) int years
+    ) {
+        return ResponseEntity.ok(yieldForecastService.forecastFarmYield(id, years));
+    }
+
     @GetMapping
     @Operation(summary = "Get all farms")
-    public ResponseEntity<List<FarmResponse>> getAllFarms() {
-        return ResponseEntity.ok(farmService.getAllFarms());
+    public ResponseEntity<PageResponse<FarmResponse>> getAllFarms(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(farmService.getAllFarms(after, limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search farms by name and location, tolerating typos")
+    public ResponseEntity<PageResponse<FarmSearchResultResponse>> searchFarms(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(farmService.searchFarms(query, offset, limit));
     }
 
     @GetMapping("/{id}/left-area")
@@ -62,11 +102,16 @@ public class FarmController {
         return ResponseEntity.ok(farmService.calculateLeftAreaInFarm(id));
     }
 
+    @PostMapping("/{id}/allocated-area/recount")
+    @Operation(summary = "Recompute the stored allocated area of a farm")
+    public ResponseEntity<FarmResponse> recountAllocatedArea(@PathVariable Long id) {
+        return ResponseEntity.ok(farmService.recountAllocatedArea(id));
+    }
+
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a farm")
-    public ResponseEntity<Void> deleteFarm(@PathVariable Long id) {
-        farmService.deleteFarm(id);
-        return ResponseEntity.noContent().build();
+    @Operation(summary = "Delete a farm with its fields, trees and harvest details")
+    public ResponseEntity<DeletionResponse> deleteFarm(@PathVariable Long id) {
+        return ResponseEntity.ok(farmService.deleteFarm(id));
     }
 
     @GetMapping("/by-min-area/{minArea}")
@@ -3,22 +3,32 @@ package org.system.citronix.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.system.citronix.dto.request.FieldRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FieldResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.service.FieldService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_PAGE_LIMIT;
+
 @RestController
 @RequestMapping("/fields")
 @RequiredArgsConstructor
 @Tag(name = "Field Management", description = "Endpoints for managing fields")
 public class FieldController {
     private final FieldService fieldService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new field")
@@ -43,15 +53,45 @@ public class FieldController {
     }
 
     @GetMapping("/{id}/with-trees")
-    @Operation(summary = "Get field with its trees")
-    public ResponseEntity<FieldResponse> getFieldWithTrees(@PathVariable Long id) {
-        return ResponseEntity.ok(fieldService.getFieldWithTrees(id));
+    @Operation(summary = "Get field with a page of its trees, optionally limited to an age band")
+    public ResponseEntity<FieldResponse> getFieldWithTrees(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge
+    ) {
+        return ResponseEntity.ok(fieldService.getFieldWithTrees(id, after, limit, minAge, maxAge));
+    }
+
+    @GetMapping(value = "/{id}/trees/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all trees of a field as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamFieldTrees(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge
+    ) {
+        fieldService.validateTreeStream(id, minAge, maxAge);
+        StreamingResponseBody body = out -> fieldService.streamFieldTrees(id, minAge, maxAge, tree -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(tree));
+                out.write('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping
     @Operation(summary = "Get all fields")
-    public ResponseEntity<List<FieldResponse>> getAllFields() {
-        return ResponseEntity.ok(fieldService.getAllFields());
+    public ResponseEntity<PageResponse<FieldResponse>> getAllFields(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(fieldService.getAllFields(after, limit));
     }
 
     @GetMapping("/by-farm/{farmId}")
@@ -61,10 +101,9 @@ public class FieldController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a field")
-    public ResponseEntity<Void> deleteField(@PathVariable Long id) {
-        fieldService.deleteField(id);
-        return ResponseEntity.noContent().build();
+    @Operation(summary = "Delete a field with its trees and harvest details")
+    public ResponseEntity<DeletionResponse> deleteField(@PathVariable Long id) {
+        return ResponseEntity.ok(fieldService.deleteField(id));
     }
 
     @GetMapping("/by-max-area/{maxArea}")
@@ -86,4 +125,10 @@ public class FieldController {
     public ResponseEntity<Double> calculateTotalAreaInFarm(@PathVariable Long farmId) {
         return ResponseEntity.ok(fieldService.calculateTotalAreaInFarm(farmId));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/{id}/tree-count/recount")
+    @Operation(summary = "Recompute the stored tree count of a field")
+    public ResponseEntity<FieldResponse> recountTrees(@PathVariable Long id) {
+        return ResponseEntity.ok(fieldService.recountTrees(id));
+    }
+}
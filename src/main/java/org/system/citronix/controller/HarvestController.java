@@ -8,19 +8,30 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.system.citronix.dto.request.HarvestDetailBatchRequest;
 import org.system.citronix.dto.request.HarvestDetailRequest;
 import org.system.citronix.dto.request.HarvestRequest;
+import org.system.citronix.dto.response.HarvestDetailBatchResponse;
 import org.system.citronix.dto.response.HarvestDetailResponse;
+import org.system.citronix.dto.response.HarvestGenerationSummaryResponse;
+import org.system.citronix.dto.response.HarvestJobResponse;
+import org.system.citronix.dto.response.HarvestPreviewResponse;
 import org.system.citronix.dto.response.HarvestResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.dto.response.TreeHarvestValidationRequest;
+import org.system.citronix.enums.HarvestPreviewSourceEnum;
+import org.system.citronix.enums.HarvestStrategyEnum;
 import org.system.citronix.enums.SeasonEnum;
 import org.system.citronix.service.HarvestDetailService;
+import org.system.citronix.service.HarvestJobService;
 import org.system.citronix.service.HarvestService;
 import org.system.citronix.util.ValidationUtil;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_PAGE_LIMIT;
+
 @RestController
 @RequestMapping("/harvests")
 @RequiredArgsConstructor
@@ -28,6 +39,7 @@ import java.util.List;
 public class HarvestController {
     private final HarvestService harvestService;
     private final HarvestDetailService harvestDetailService;
+    private final HarvestJobService harvestJobService;
 
 
     @PostMapping
@@ -60,8 +72,11 @@ public class HarvestController {
 
     @GetMapping
     @Operation(summary = "Get all harvests")
-    public ResponseEntity<List<HarvestResponse>> getAllHarvests() {
-        return ResponseEntity.ok(harvestService.getAllHarvests());
+    public ResponseEntity<PageResponse<HarvestResponse>> getAllHarvests(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(harvestService.getAllHarvests(after, limit));
     }
 
     @DeleteMapping("/{id}")
@@ -80,6 +95,16 @@ public class HarvestController {
         return ResponseEntity.ok(harvestService.calculateTotalQuantityBetweenDates(startDate, endDate));
     }
 
+    @GetMapping("/preview")
+    @Operation(summary = "Preview the expected yield of a farm harvest without creating it")
+    public ResponseEntity<HarvestPreviewResponse> previewHarvest(
+            @RequestParam Long farmId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "TREES") HarvestPreviewSourceEnum source
+    ) {
+        return ResponseEntity.ok(harvestService.previewHarvest(farmId, date, source));
+    }
+
     @PostMapping("/{harvestId}/details")
     @Operation(summary = "Add detail to harvest")
     public ResponseEntity<HarvestDetailResponse> addHarvestDetail(
@@ -90,6 +115,16 @@ public class HarvestController {
                 .body(harvestDetailService.createHarvestDetail(harvestId, request));
     }
 
+    @PostMapping("/{harvestId}/details/batch")
+    @Operation(summary = "Add harvest details for a list of trees")
+    public ResponseEntity<HarvestDetailBatchResponse> addHarvestDetailsBatch(
+            @PathVariable Long harvestId,
+            @Valid @RequestBody HarvestDetailBatchRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(harvestDetailService.createHarvestDetailsBatch(harvestId, request));
+    }
+
     @PutMapping("/details/{detailId}")
     @Operation(summary = "Update harvest detail")
     public ResponseEntity<HarvestDetailResponse> updateHarvestDetail(
@@ -107,8 +142,11 @@ public class HarvestController {
 
     @GetMapping("/details")
     @Operation(summary = "Get all harvest details")
-    public ResponseEntity<List<HarvestDetailResponse>> getAllHarvestDetails(){
-        return ResponseEntity.ok(harvestDetailService.getAllHarvestDetails());
+    public ResponseEntity<PageResponse<HarvestDetailResponse>> getAllHarvestDetails(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(harvestDetailService.getAllHarvestDetails(after, limit));
     }
 
     @GetMapping("/{harvestId}/details")
@@ -164,6 +202,12 @@ public class HarvestController {
         return ResponseEntity.ok(harvestDetailService.calculateTotalQuantityForHarvest(harvestId));
     }
 
+    @PostMapping("/{harvestId}/total-quantity/reconcile")
+    @Operation(summary = "Recompute harvest total quantity from its details")
+    public ResponseEntity<Double> reconcileTotalQuantityForHarvest(@PathVariable Long harvestId) {
+        return ResponseEntity.ok(harvestDetailService.reconcileTotalQuantity(harvestId));
+    }
+
     @PostMapping("/{harvestId}/details/by-field/{fieldId}")
     @Operation(summary = "Add harvest details for all trees in a field")
     public ResponseEntity<List<HarvestDetailResponse>> addHarvestDetailsByField(
@@ -183,4 +227,49 @@ public class HarvestController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(harvestDetailService.createHarvestDetailsForFarm(harvestId, farmId));
     }
+
+    @PostMapping(value = "/{harvestId}/details/by-field/{fieldId}", params = "response=summary")
+    @Operation(summary = "Add harvest details for all trees in a field and return only a summary")
+    public ResponseEntity<HarvestGenerationSummaryResponse> addHarvestDetailsByFieldSummary(
+            @PathVariable Long harvestId,
+            @PathVariable Long fieldId
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(harvestDetailService.summarizeHarvestDetailsForField(harvestId, fieldId));
+    }
+
+    @PostMapping(value = "/{harvestId}/details/by-farm/{farmId}", params = "response=summary")
+    @Operation(summary = "Add harvest details for all trees in a farm and return only a summary")
+    public ResponseEntity<HarvestGenerationSummaryResponse> addHarvestDetailsByFarmSummary(
+            @PathVariable Long harvestId,
+            @PathVariable Long farmId,
+            @RequestParam(defaultValue = "AUTO") HarvestStrategyEnum strategy
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(harvestDetailService.summarizeHarvestDetailsForFarm(harvestId, farmId, strategy));
+    }
+
+    @PostMapping("/{harvestId}/details/by-farm/{farmId}/jobs")
+    @Operation(summary = "Start a background job adding harvest details for all trees in a farm")
+    public ResponseEntity<HarvestJobResponse> startHarvestDetailsJobByFarm(
+            @PathVariable Long harvestId,
+            @PathVariable Long farmId,
+            @RequestParam(required = false) Integer chunkSize
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(harvestJobService.startFarmHarvestJob(harvestId, farmId, chunkSize));
+    }
+
+    @GetMapping("/jobs/{id}")
+    @Operation(summary = "Get harvest job progress")
+    public ResponseEntity<HarvestJobResponse> getHarvestJob(@PathVariable Long id) {
+        return ResponseEntity.ok(harvestJobService.getJobById(id));
+    }
+
+    @PostMapping("/jobs/{id}/restart")
+    @Operation(summary = "Restart a failed harvest job from its last committed chunk")
+    public ResponseEntity<HarvestJobResponse> restartHarvestJob(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(harvestJobService.restartJob(id));
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.system.citronix.dto.request.SaleRequest;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.dto.response.SaleResponse;
 import org.system.citronix.enums.SeasonEnum;
 import org.system.citronix.service.SaleService;
@@ -16,6 +17,8 @@ import org.system.citronix.service.SaleService;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_PAGE_LIMIT;
+
 @RestController
 @RequestMapping("/sales")
 @RequiredArgsConstructor
@@ -47,8 +50,11 @@ public class SaleController {
 
     @GetMapping
     @Operation(summary = "Get all sales")
-    public ResponseEntity<List<SaleResponse>> getAllSales() {
-        return ResponseEntity.ok(saleService.getAllSales());
+    public ResponseEntity<PageResponse<SaleResponse>> getAllSales(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(saleService.getAllSales(after, limit));
     }
 
     @GetMapping("/by-harvest/{harvestId}")
@@ -8,13 +8,20 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.system.citronix.dto.request.TreeBatchRequest;
 import org.system.citronix.dto.request.TreeRequest;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeAgeHistogramResponse;
+import org.system.citronix.dto.response.TreeBatchResponse;
 import org.system.citronix.dto.response.TreeResponse;
+import org.system.citronix.enums.ProductivityTierEnum;
 import org.system.citronix.service.TreeService;
 
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_PAGE_LIMIT;
+
 @RestController
 @RequestMapping("/trees")
 @RequiredArgsConstructor
@@ -29,6 +36,13 @@ public class TreeController {
                 .body(treeService.plantTree(request));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Plant many trees in a field at once")
+    public ResponseEntity<TreeBatchResponse> plantTrees(@Valid @RequestBody TreeBatchRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(treeService.plantTrees(request));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing tree")
     public ResponseEntity<TreeResponse> updateTree(
@@ -46,8 +60,11 @@ public class TreeController {
 
     @GetMapping
     @Operation(summary = "Get all trees")
-    public ResponseEntity<List<TreeResponse>> getAllTrees() {
-        return ResponseEntity.ok(treeService.getAllTrees());
+    public ResponseEntity<PageResponse<TreeResponse>> getAllTrees(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit
+    ) {
+        return ResponseEntity.ok(treeService.getAllTrees(after, limit));
     }
 
     @GetMapping("/by-field/{fieldId}")
@@ -78,12 +95,24 @@ public class TreeController {
         return ResponseEntity.ok(treeService.getTreesOlderThan(age));
     }
 
+    @GetMapping("/by-age-band/{band}")
+    @Operation(summary = "Get trees in a productivity age band")
+    public ResponseEntity<List<TreeResponse>> getTreesByAgeBand(@PathVariable ProductivityTierEnum band) {
+        return ResponseEntity.ok(treeService.getTreesByAgeBand(band));
+    }
+
     @GetMapping("/count/by-field/{fieldId}")
     @Operation(summary = "Count trees in a field")
     public ResponseEntity<Long> countTreesInField(@PathVariable Long fieldId) {
         return ResponseEntity.ok(treeService.countTreesInField(fieldId));
     }
 
+    @GetMapping("/age-histogram/by-field/{fieldId}")
+    @Operation(summary = "Count the trees of a field per age in years")
+    public ResponseEntity<TreeAgeHistogramResponse> getAgeHistogram(@PathVariable Long fieldId) {
+        return ResponseEntity.ok(treeService.getAgeHistogram(fieldId));
+    }
+
     @GetMapping("/{id}/productivity")
     @Operation(summary = "Calculate tree productivity")
     public ResponseEntity<Double> calculateTreeProductivity(@PathVariable Long id) {
@@ -0,0 +1,23 @@
+package org.system.citronix.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+import static org.system.citronix.constant.CitronixConstants.MAX_HARVEST_BATCH_TREES;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestDetailBatchRequest {
+    @NotEmpty(message = "Tree IDs are required")
+    @Size(max = MAX_HARVEST_BATCH_TREES, message = "At most " + MAX_HARVEST_BATCH_TREES + " tree IDs per request")
+    private List<@NotNull(message = "Tree ID is required") Long> treeIds;
+}
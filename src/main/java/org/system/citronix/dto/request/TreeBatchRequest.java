@@ -0,0 +1,36 @@
+package org.system.citronix.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.system.citronix.constant.CitronixConstants.MAX_TREE_BATCH_SIZE;
+
+/**
+ * Either {@code plantDate} with {@code count}, or one entry in {@code plantDates} per tree.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeBatchRequest {
+    @NotNull(message = "Field ID is required")
+    private Long fieldId;
+
+    private LocalDate plantDate;
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = MAX_TREE_BATCH_SIZE, message = "At most " + MAX_TREE_BATCH_SIZE + " trees per request")
+    private Integer count;
+
+    @Size(max = MAX_TREE_BATCH_SIZE, message = "At most " + MAX_TREE_BATCH_SIZE + " trees per request")
+    private List<@NotNull(message = "Plant date is required") LocalDate> plantDates;
+}
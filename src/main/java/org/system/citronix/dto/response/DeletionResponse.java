@@ -0,0 +1,20 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rows removed per table by a cascading delete.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletionResponse {
+    private int harvestDetails;
+    private int trees;
+    private int fields;
+    private int farms;
+}
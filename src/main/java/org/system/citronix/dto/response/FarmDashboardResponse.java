@@ -0,0 +1,30 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.enums.SeasonEnum;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmDashboardResponse {
+    private Long farmId;
+    private String name;
+    private LocalDate date;
+    private Double area;
+    private double allocatedArea;
+    private double leftArea;
+    private long fieldCount;
+    private long totalTrees;
+    private Map<ProductivityTierEnum, Long> treesByTier;
+    private SeasonEnum season;
+    private double seasonHarvestedQuantity;
+    private double yearToDateRevenue;
+}
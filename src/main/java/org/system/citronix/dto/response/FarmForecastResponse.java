@@ -0,0 +1,21 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmForecastResponse {
+    private Long farmId;
+    private LocalDate referenceDate;
+    private long totalTrees;
+    private List<YieldForecastYear> years;
+    private List<FieldYieldForecast> fields;
+}
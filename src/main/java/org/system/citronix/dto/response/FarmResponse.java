@@ -18,5 +18,6 @@ public class FarmResponse {
     private String location;
     private Double area;
     private LocalDate creationDate;
+    private double allocatedArea;
     private List<FieldResponse> fields;
 }
\ No newline at end of file
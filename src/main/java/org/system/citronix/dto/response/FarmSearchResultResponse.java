@@ -0,0 +1,18 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FarmSearchResultResponse {
+    private Long id;
+    private String name;
+    private String location;
+    private Double area;
+    private double score;
+}
@@ -0,0 +1,19 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FieldHarvestPreview {
+    private Long fieldId;
+    private Map<ProductivityTierEnum, Long> treesByTier;
+    private double expectedQuantity;
+}
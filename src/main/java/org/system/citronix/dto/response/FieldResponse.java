@@ -16,6 +16,8 @@ public class FieldResponse {
     private Double area;
     private Long farmId;
     private List<TreeInFieldResponse> trees;
+    private Long treesNext;
+    private int treeCount;
     private int maximumTreeCapacity;
     private int availableTreeSpaces;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FieldYieldForecast {
+    private Long fieldId;
+    private long totalTrees;
+    private List<YieldForecastYear> years;
+}
@@ -0,0 +1,21 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestDetailBatchResponse {
+    private Long harvestId;
+    private int requested;
+    private int accepted;
+    private int rejected;
+    private double totalQuantityAdded;
+    private List<TreeHarvestResult> results;
+}
@@ -0,0 +1,26 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.HarvestSkipReasonEnum;
+import org.system.citronix.enums.HarvestStrategyEnum;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestGenerationSummaryResponse {
+    private Long harvestId;
+    private HarvestStrategyEnum strategy;
+    private int evaluatedTrees;
+    private int createdDetails;
+    private int skippedTrees;
+    private double totalQuantityAdded;
+    private Map<HarvestSkipReasonEnum, Long> skippedByReason;
+    private Map<Long, String> failedFields;  // PARALLEL only: field ID -> error, other fields committed
+    private long elapsedMillis;
+}
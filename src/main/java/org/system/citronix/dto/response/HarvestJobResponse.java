@@ -0,0 +1,33 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.JobStatusEnum;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestJobResponse {
+    private Long id;
+    private Long harvestId;
+    private Long farmId;
+    private JobStatusEnum status;
+    private int chunkSize;
+    private long totalTrees;
+    private long processedTrees;
+    private long createdDetails;
+    private long skippedTrees;
+    private int failedAttempts;
+    private String lastError;
+    private double progress;          // percent of trees processed
+    private double treesPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,30 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected yield of generating a harvest for the farm on the date. Covers the trees generation
+ * would: every tree of the farm not yet harvested in that season, with trees planted after the
+ * date counted as young.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HarvestPreviewResponse {
+    private Long farmId;
+    private LocalDate date;
+    private long totalTrees;
+    private double expectedQuantity;
+    private Map<ProductivityTierEnum, Long> treesByTier;
+    private Map<ProductivityTierEnum, Double> quantityByTier;
+    private List<FieldHarvestPreview> fields;
+}
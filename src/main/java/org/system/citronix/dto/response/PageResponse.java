@@ -0,0 +1,23 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. Pass {@code next} as the {@code after} parameter to fetch
+ * the following page; it is {@code null} on the last page. Ranked search results are paged by
+ * offset instead, and there {@code next} is the {@code offset} of the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> items;
+    private Long next;
+    private int limit;
+}
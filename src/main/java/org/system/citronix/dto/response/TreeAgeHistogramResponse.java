@@ -0,0 +1,20 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeAgeHistogramResponse {
+    private Long fieldId;
+    private LocalDate date;
+    private long totalTrees;
+    private Map<Integer, Long> treesByAge;
+}
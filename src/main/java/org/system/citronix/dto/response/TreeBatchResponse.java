@@ -0,0 +1,18 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeBatchResponse {
+    private Long fieldId;
+    private int created;
+    private List<Long> treeIds;  // pooled IDs, not a contiguous range
+}
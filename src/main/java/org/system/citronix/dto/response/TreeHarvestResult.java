@@ -0,0 +1,18 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.HarvestSkipReasonEnum;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TreeHarvestResult {
+    private Long treeId;
+    private boolean accepted;
+    private HarvestSkipReasonEnum reason;
+    private Double quantity;
+}
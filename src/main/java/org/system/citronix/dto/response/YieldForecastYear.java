@@ -0,0 +1,21 @@
+package org.system.citronix.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YieldForecastYear {
+    private int year;
+    private LocalDate date;
+    private Map<ProductivityTierEnum, Long> treesByTier;
+    private double expectedQuantity;
+}
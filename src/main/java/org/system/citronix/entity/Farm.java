@@ -2,6 +2,7 @@ package org.system.citronix.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import static org.system.citronix.constant.CitronixConstants.*;
 
 import java.time.LocalDate;
@@ -14,7 +15,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "farms")
+@Table(name = "farms",
+        uniqueConstraints = @UniqueConstraint(name = FARM_NAME_UNIQUE_CONSTRAINT, columnNames = "name"))
 public class Farm {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,14 +34,16 @@ public class Farm {
     @Column(name = "creation_date", nullable = false)
     private LocalDate creationDate;
 
+    // Sum of field areas, written only by the guarded updates in FarmRepository
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "allocated_area", nullable = false, updatable = false)
+    private double allocatedArea = 0;
+
     @OneToMany(mappedBy = "farm", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Field> fields = new ArrayList<>();
 
     public double calculateLeftArea() {
-        double currentTotalArea = fields.stream()
-                .mapToDouble(Field::getArea)
-                .sum();
-
-        return this.area - currentTotalArea;
+        return this.area - allocatedArea;
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package org.system.citronix.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import static org.system.citronix.constant.CitronixConstants.*;
 
@@ -14,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // tree_count is maintained by atomic increments and must not be overwritten on flush
 @Table(name = "fields")
 public class Field {
     @Id
@@ -31,11 +34,16 @@ public class Field {
     @OneToMany(mappedBy = "field", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Tree> trees = new ArrayList<>();
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "tree_count", nullable = false)
+    private int treeCount = 0;
+
     public int getMaximumTreeCapacity() {
         return (int) (this.area * MAX_TREES_PER_HECTARE);
     }
 
     public int getAvailableTreeSpaces() {
-        return getMaximumTreeCapacity() - trees.size();
+        return getMaximumTreeCapacity() - treeCount;
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.system.citronix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+/**
+ * Number of trees of a field in each productivity tier, as of the tier summary checkpoint date.
+ * Maintained incrementally on planting and deletion and rolled forward as trees age.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "field_tier_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_field_tier_summary_field_tier", columnNames = {"field_id", "tier"}))
+public class FieldTierSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "field_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Field field;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductivityTierEnum tier;
+
+    @Column(name = "tree_count", nullable = false)
+    private long treeCount;
+
+    @Column(name = "expected_quantity", nullable = false)
+    private double expectedQuantity;  // kg per season
+}
@@ -2,6 +2,7 @@ package org.system.citronix.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.system.citronix.enums.SeasonEnum;
 
 import java.time.LocalDate;
@@ -14,6 +15,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // total_quantity is maintained by atomic increments and must not be overwritten on flush
 @Table(name = "harvests")
 public class Harvest {
     @Id
@@ -36,12 +38,6 @@ public class Harvest {
     @OneToOne(mappedBy = "harvest", cascade = CascadeType.ALL)
     private Sale sales;
 
-    public void calculateTotalQuantity() {
-        this.totalQuantity = harvestDetails.stream()
-                .mapToDouble(HarvestDetail::getQuantity)
-                .sum();
-    }
-
     public boolean isValidSeason(LocalDate date) {
         return season.equals(SeasonEnum.fromDate(date));
     }
@@ -3,6 +3,8 @@ package org.system.citronix.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import static org.system.citronix.constant.CitronixConstants.ID_ALLOCATION_SIZE;
+
 @Entity
 @Getter
 @Setter
@@ -12,7 +14,8 @@ import lombok.*;
 @Table(name = "harvest_details")
 public class HarvestDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "harvest_detail_seq")
+    @SequenceGenerator(name = "harvest_detail_seq", sequenceName = "harvest_details_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
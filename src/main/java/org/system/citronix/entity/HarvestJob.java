@@ -0,0 +1,73 @@
+package org.system.citronix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.system.citronix.enums.JobStatusEnum;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "harvest_jobs")
+public class HarvestJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "harvest_id", nullable = false)
+    private Long harvestId;
+
+    @Column(name = "farm_id", nullable = false)
+    private Long farmId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatusEnum status;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    // Keyset cursor: highest tree ID covered by the last committed chunk
+    @Builder.Default
+    @Column(name = "last_tree_id", nullable = false)
+    private Long lastTreeId = 0L;
+
+    @Column(name = "total_trees", nullable = false)
+    private long totalTrees;
+
+    @Column(name = "processed_trees", nullable = false)
+    private long processedTrees;
+
+    @Column(name = "created_details", nullable = false)
+    private long createdDetails;
+
+    @Column(name = "skipped_trees", nullable = false)
+    private long skippedTrees;
+
+    @Column(name = "failed_attempts", nullable = false)
+    private int failedAttempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // Refreshed with every committed chunk
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == JobStatusEnum.COMPLETED || status == JobStatusEnum.FAILED;
+    }
+}
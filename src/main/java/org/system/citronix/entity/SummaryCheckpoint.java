@@ -0,0 +1,25 @@
+package org.system.citronix.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Date up to which a precomputed summary is current, keyed by summary name.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "summary_checkpoints")
+public class SummaryCheckpoint {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+}
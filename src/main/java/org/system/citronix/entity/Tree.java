@@ -2,6 +2,7 @@ package org.system.citronix.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.system.citronix.enums.ProductivityTierEnum;
 import static org.system.citronix.constant.CitronixConstants.*;
 
 import java.time.LocalDate;
@@ -16,10 +17,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "trees")
+@Table(name = "trees", indexes = @Index(name = "idx_trees_plant_date", columnList = "plant_date"))
 public class Tree {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tree_seq")
+    @SequenceGenerator(name = "tree_seq", sequenceName = "trees_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "plant_date", nullable = false)
@@ -39,10 +41,6 @@ public class Tree {
 
     // Calculate productivity at a specific date
     public double getProductivity(LocalDate referenceDate) {
-        int age = getAge(referenceDate);
-        if (age > MAX_TREE_AGE) return 0.0;
-        if (age > MATURE_TREE_AGE_LIMIT) return OLD_TREE_PRODUCTIVITY;
-        if (age >= YOUNG_TREE_AGE_LIMIT) return MATURE_TREE_PRODUCTIVITY;
-        return YOUNG_TREE_PRODUCTIVITY;
+        return ProductivityTierEnum.forAge(getAge(referenceDate)).getProductivity();
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.system.citronix.enums;
+
+public enum HarvestPreviewSourceEnum {
+    TREES,
+    SUMMARY
+}
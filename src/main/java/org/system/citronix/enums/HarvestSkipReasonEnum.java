@@ -0,0 +1,8 @@
+package org.system.citronix.enums;
+
+public enum HarvestSkipReasonEnum {
+    TREE_NOT_FOUND,
+    DUPLICATE_IN_REQUEST,
+    ALREADY_HARVESTED,
+    TOO_YOUNG
+}
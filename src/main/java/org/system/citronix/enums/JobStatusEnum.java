@@ -0,0 +1,8 @@
+package org.system.citronix.enums;
+
+public enum JobStatusEnum {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,58 @@
+package org.system.citronix.enums;
+
+import java.time.LocalDate;
+
+import static org.system.citronix.constant.CitronixConstants.*;
+
+public enum ProductivityTierEnum {
+    YOUNG(0, YOUNG_TREE_PRODUCTIVITY),
+    MATURE(YOUNG_TREE_AGE_LIMIT, MATURE_TREE_PRODUCTIVITY),
+    OLD(MATURE_TREE_AGE_LIMIT + 1, OLD_TREE_PRODUCTIVITY),
+    RETIRED(MAX_TREE_AGE + 1, 0.0);
+
+    private static final ProductivityTierEnum[] TIERS = values();
+
+    private final int minAge;
+    private final double productivity;
+
+    ProductivityTierEnum(int minAge, double productivity) {
+        this.minAge = minAge;
+        this.productivity = productivity;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public double getProductivity() {
+        return productivity;
+    }
+
+    /**
+     * Latest plant date of a tree that has reached this tier on the given date. Comparing plant
+     * dates against these cutoffs matches {@code Tree.getAge} without computing an age per row.
+     */
+    public LocalDate plantedOnOrBefore(LocalDate referenceDate) {
+        return referenceDate.minusYears(minAge);
+    }
+
+    /**
+     * The next tier by age, or {@code null} for the oldest tier.
+     */
+    public ProductivityTierEnum olderTier() {
+        return ordinal() + 1 < TIERS.length ? TIERS[ordinal() + 1] : null;
+    }
+
+    /**
+     * The tier a tree of the given age belongs to. Trees with a negative age (planted after the
+     * reference date) count as young.
+     */
+    public static ProductivityTierEnum forAge(int age) {
+        for (int i = TIERS.length - 1; i > 0; i--) {
+            if (age >= TIERS[i].minAge) {
+                return TIERS[i];
+            }
+        }
+        return YOUNG;
+    }
+}
@@ -0,0 +1,4 @@
+package org.system.citronix.event;
+
+public record FarmDeletedEvent(Long farmId) {
+}
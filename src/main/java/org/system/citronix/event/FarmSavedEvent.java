@@ -0,0 +1,7 @@
+package org.system.citronix.event;
+
+/**
+ * Published when a farm is created or its details change.
+ */
+public record FarmSavedEvent(Long farmId, String name, String location, Double area) {
+}
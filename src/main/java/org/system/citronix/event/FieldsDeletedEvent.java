@@ -0,0 +1,9 @@
+package org.system.citronix.event;
+
+import java.util.List;
+
+/**
+ * Published when fields are deleted together with all their trees.
+ */
+public record FieldsDeletedEvent(List<Long> fieldIds) {
+}
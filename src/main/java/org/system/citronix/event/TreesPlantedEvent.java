@@ -0,0 +1,11 @@
+package org.system.citronix.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published when trees are planted in a field. {@code treeIds} and {@code plantDates} are
+ * parallel lists.
+ */
+public record TreesPlantedEvent(Long fieldId, List<Long> treeIds, List<LocalDate> plantDates) {
+}
@@ -0,0 +1,10 @@
+package org.system.citronix.event;
+
+import java.util.List;
+
+/**
+ * Published when trees are removed from a field, including when a tree is re-dated and about to
+ * be planted again with its new date.
+ */
+public record TreesRemovedEvent(Long fieldId, List<Long> treeIds) {
+}
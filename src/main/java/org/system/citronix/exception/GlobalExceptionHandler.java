@@ -20,10 +20,17 @@ import org.system.citronix.exception.response.ValidationErrorResponse;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
+import static org.system.citronix.constant.CitronixConstants.FARM_NAME_UNIQUE_CONSTRAINT;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    // Constraint violations that the service layer relies on instead of checking up front
+    private static final Map<String, String> CONSTRAINT_MESSAGES = Map.of(
+            FARM_NAME_UNIQUE_CONSTRAINT, "The name already exists"
+    );
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(
@@ -161,6 +168,11 @@ public class GlobalExceptionHandler {
             WebRequest request
     ) {
         String message = exception.getMostSpecificCause().getMessage();
+        String constraintMessage = constraintMessage(message);
+        if (constraintMessage != null) {
+            return handleValidationException(new ValidationException(constraintMessage), request);
+        }
+
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.CONFLICT.value(),
@@ -255,4 +267,17 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
+
+    // Drivers name the constraint differently (PostgreSQL quotes it, H2 upper-cases it with an index suffix)
+    private static String constraintMessage(String databaseMessage) {
+        if (databaseMessage == null) {
+            return null;
+        }
+        String normalized = databaseMessage.toLowerCase(Locale.ROOT);
+        return CONSTRAINT_MESSAGES.entrySet().stream()
+                .filter(entry -> normalized.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
 }
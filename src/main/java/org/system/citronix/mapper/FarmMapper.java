@@ -5,15 +5,19 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.system.citronix.dto.request.FarmRequest;
 import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.dto.response.FarmSearchResultResponse;
 import org.system.citronix.entity.Farm;
+import org.system.citronix.registry.FarmSearchIndex;
 
 @Mapper(componentModel = "spring", uses = {FieldMapper.class})
 public interface FarmMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "fields", ignore = true)
+    @Mapping(target = "allocatedArea", ignore = true)
     Farm toEntity(FarmRequest request);
 
     @Mapping(target = "fields", ignore = true)
+    @Mapping(target = "allocatedArea", ignore = true)
     void updateFarmFromRequest(FarmRequest request, @MappingTarget Farm farm);
 
     @Mapping(target = "fields", ignore = true)
@@ -21,4 +25,10 @@ public interface FarmMapper {
 
     @Mapping(target = "fields", source = "fields", qualifiedByName = "toBasicResponse")
     FarmResponse toResponseWithFields(Farm farm);
+
+    @Mapping(target = "id", source = "farmId")
+    FarmSearchResultResponse toSearchResult(FarmSearchIndex.Match match);
+
+    @Mapping(target = "score", ignore = true)
+    FarmSearchResultResponse toSearchResult(Farm farm);
 }
\ No newline at end of file
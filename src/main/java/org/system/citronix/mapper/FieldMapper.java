@@ -7,24 +7,28 @@ import org.mapstruct.Named;
 import org.system.citronix.dto.request.FieldRequest;
 import org.system.citronix.dto.response.FieldResponse;
 import org.system.citronix.entity.Field;
+import org.system.citronix.repository.projection.FieldSummary;
 
-@Mapper(componentModel = "spring", uses = {TreeMapper.class})
+@Mapper(componentModel = "spring")
 public interface FieldMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "farm", ignore = true)
     @Mapping(target = "trees", ignore = true)
+    @Mapping(target = "treeCount", ignore = true)
     Field toEntity(FieldRequest request);
 
     @Mapping(target = "trees", ignore = true)
+    @Mapping(target = "treeCount", ignore = true)
     void updateFieldFromRequest(FieldRequest request, @MappingTarget Field field);
 
     @Named("toBasicResponse")
     @Mapping(target = "farmId", source = "farm.id")
     @Mapping(target = "trees", ignore = true)
+    @Mapping(target = "treesNext", ignore = true)
     FieldResponse toResponse(Field field);
 
-    @Named("toDetailedResponse")
-    @Mapping(target = "farmId", source = "farm.id")
-    @Mapping(target = "trees", source = "trees")
-    FieldResponse toResponseWithTrees(Field field);
+    @Named("toSummaryResponse")
+    @Mapping(target = "trees", ignore = true)
+    @Mapping(target = "treesNext", ignore = true)
+    FieldResponse toResponse(FieldSummary summary);
 }
\ No newline at end of file
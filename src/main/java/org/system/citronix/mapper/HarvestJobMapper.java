@@ -0,0 +1,32 @@
+package org.system.citronix.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.system.citronix.dto.response.HarvestJobResponse;
+import org.system.citronix.entity.HarvestJob;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Mapper(componentModel = "spring")
+public interface HarvestJobMapper {
+    @Mapping(target = "progress", expression = "java(calculateProgress(job))")
+    @Mapping(target = "treesPerSecond", expression = "java(calculateThroughput(job))")
+    HarvestJobResponse toResponse(HarvestJob job);
+
+    default double calculateProgress(HarvestJob job) {
+        if (job.getTotalTrees() == 0) {
+            return job.isFinished() ? 100.0 : 0.0;
+        }
+        return Math.min(100.0, job.getProcessedTrees() * 100.0 / job.getTotalTrees());
+    }
+
+    default double calculateThroughput(HarvestJob job) {
+        if (job.getStartedAt() == null) {
+            return 0.0;
+        }
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Duration.between(job.getStartedAt(), end).toMillis();
+        return millis > 0 ? job.getProcessedTrees() * 1000.0 / millis : 0.0;
+    }
+}
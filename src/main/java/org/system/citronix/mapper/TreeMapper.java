@@ -1,5 +1,6 @@
 package org.system.citronix.mapper;
 
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -7,6 +8,7 @@ import org.system.citronix.dto.request.TreeRequest;
 import org.system.citronix.dto.response.TreeInFieldResponse;
 import org.system.citronix.dto.response.TreeResponse;
 import org.system.citronix.entity.Tree;
+import org.system.citronix.util.TreeAgeTable;
 
 import java.time.LocalDate;
 
@@ -31,7 +33,15 @@ public interface TreeMapper {
     @Mapping(target = "productivity", expression = "java(tree.getProductivity(dateProvider))")
     TreeInFieldResponse toFieldResponse(Tree tree, LocalDate dateProvider);
 
-    default TreeInFieldResponse toFieldResponse(Tree tree) {
-        return toFieldResponse(tree, LocalDate.now());
-    }
-}
\ No newline at end of file
+    // List variants: age and productivity are looked up in a table built once per request
+
+    @Mapping(target = "fieldId", source = "tree.field.id")
+    @Mapping(target = "age", expression = "java(ageTable.ageOf(tree.getPlantDate()))")
+    @Mapping(target = "productivity", expression = "java(ageTable.productivityOf(tree.getPlantDate()))")
+    TreeResponse toResponse(Tree tree, @Context TreeAgeTable ageTable);
+
+    @Mapping(target = "fieldId", source = "tree.field.id")
+    @Mapping(target = "age", expression = "java(ageTable.ageOf(tree.getPlantDate()))")
+    @Mapping(target = "productivity", expression = "java(ageTable.productivityOf(tree.getPlantDate()))")
+    TreeInFieldResponse toFieldResponse(Tree tree, @Context TreeAgeTable ageTable);
+}
@@ -0,0 +1,313 @@
+package org.system.citronix.registry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.system.citronix.event.FarmDeletedEvent;
+import org.system.citronix.event.FarmSavedEvent;
+import org.system.citronix.repository.FarmRepository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import static org.system.citronix.constant.CitronixConstants.FARM_SEARCH_MIN_SIMILARITY;
+
+/**
+ * In-memory search over farm names and locations. Text is lower-cased, stripped of accents and
+ * split into words; a sorted word map answers prefix queries and a trigram posting map finds
+ * typo-tolerant candidates, so a query touches only farms sharing a word prefix or trigrams with
+ * it. Loaded once the application is ready and kept current from committed farm writes. Until
+ * loading completes {@link #isReady()} is false and callers read the database.
+ */
+@Slf4j
+@Component
+public class FarmSearchIndex {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double NAME_PREFIX_SCORE = 3.0;
+    private static final double WORD_PREFIX_SCORE = 2.0;
+    private static final double LOCATION_WEIGHT = 0.9;
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Match::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingLong(Match::farmId);
+
+    private final FarmRepository farmRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final TreeMap<String, Set<Long>> words = new TreeMap<>();
+    private final Map<String, Set<Long>> trigrams = new HashMap<>();
+    private final Object loadLock = new Object();
+    private List<Runnable> pendingUpdates = new ArrayList<>();  // updates committed while loading
+    private volatile boolean ready;
+
+    public FarmSearchIndex(FarmRepository farmRepository) {
+        this.farmRepository = farmRepository;
+    }
+
+    public record Match(long farmId, String name, String location, Double area, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        List<Document> loaded = farmRepository.findAllSearchEntries().stream()
+                .map(entry -> Document.of(entry.getId(), entry.getName(), entry.getLocation(), entry.getArea()))
+                .toList();
+
+        synchronized (loadLock) {
+            withWriteLock(() -> loaded.forEach(this::put));
+            // Updates are idempotent, so replaying ones already in the snapshot is harmless
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+            ready = true;
+        }
+        log.info("Loaded farm search index: {} farms in {} ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFarmSaved(FarmSavedEvent event) {
+        Document document = Document.of(event.farmId(), event.name(), event.location(), event.area());
+        apply(() -> withWriteLock(() -> put(document)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        apply(() -> withWriteLock(() -> remove(event.farmId())));
+    }
+
+    private void apply(Runnable update) {
+        if (!ready) {
+            synchronized (loadLock) {
+                if (pendingUpdates != null) {
+                    pendingUpdates.add(update);
+                    return;
+                }
+            }
+        }
+        update.run();
+    }
+
+    /**
+     * Farms matching the query, best first. A farm whose name or location starts with the query
+     * ranks above one where only a later word does, and both rank above trigram matches, which are
+     * scored by the share of the query's trigrams they contain.
+     */
+    public List<Match> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            collectPrefixMatches(normalized, scores);
+            collectTrigramMatches(normalized, scores);
+
+            List<Match> matches = new ArrayList<>(scores.size());
+            scores.forEach((farmId, score) -> {
+                Document document = documents.get(farmId);
+                matches.add(new Match(farmId, document.name, document.location, document.area, score));
+            });
+            matches.sort(RANKING);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectPrefixMatches(String query, Map<Long, Double> scores) {
+        int space = query.indexOf(' ');
+        String firstWord = space < 0 ? query : query.substring(0, space);
+        for (Set<Long> farmIds : words.subMap(firstWord, true, firstWord + Character.MAX_VALUE, false).values()) {
+            for (Long farmId : farmIds) {
+                Document document = documents.get(farmId);
+                double score = Math.max(
+                        prefixScore(document.normalizedName, query),
+                        LOCATION_WEIGHT * prefixScore(document.normalizedLocation, query));
+                if (score > 0) {
+                    scores.merge(farmId, score, Math::max);
+                }
+            }
+        }
+    }
+
+    private void collectTrigramMatches(String query, Map<Long, Double> scores) {
+        Set<String> queryGrams = trigramsOf(query);
+        Map<Long, Integer> sharedGrams = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Long farmId : trigrams.getOrDefault(gram, Set.of())) {
+                sharedGrams.merge(farmId, 1, Integer::sum);
+            }
+        }
+
+        double minShared = queryGrams.size() * FARM_SEARCH_MIN_SIMILARITY;
+        sharedGrams.forEach((farmId, shared) -> {
+            if (shared < minShared) {
+                return;
+            }
+            Document document = documents.get(farmId);
+            double nameSimilarity = similarity(queryGrams, document.nameGrams);
+            double locationSimilarity = similarity(queryGrams, document.locationGrams);
+            double score = Math.max(
+                    nameSimilarity >= FARM_SEARCH_MIN_SIMILARITY ? nameSimilarity : 0,
+                    locationSimilarity >= FARM_SEARCH_MIN_SIMILARITY ? LOCATION_WEIGHT * locationSimilarity : 0);
+            if (score > 0) {
+                scores.merge(farmId, score, Math::max);
+            }
+        });
+    }
+
+    private static double prefixScore(String text, String query) {
+        if (text.startsWith(query)) {
+            return NAME_PREFIX_SCORE;
+        }
+        return text.contains(" " + query) ? WORD_PREFIX_SCORE : 0;
+    }
+
+    // Share of the query's trigrams found in the text, like pg_trgm's word_similarity
+    private static double similarity(Set<String> queryGrams, Set<String> textGrams) {
+        int shared = 0;
+        for (String gram : queryGrams) {
+            if (textGrams.contains(gram)) {
+                shared++;
+            }
+        }
+        return (double) shared / queryGrams.size();
+    }
+
+    private void put(Document document) {
+        remove(document.farmId);
+        documents.put(document.farmId, document);
+        for (String word : document.words) {
+            words.computeIfAbsent(word, key -> new HashSet<>()).add(document.farmId);
+        }
+        for (String gram : document.grams()) {
+            trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(document.farmId);
+        }
+    }
+
+    private void remove(Long farmId) {
+        Document document = documents.remove(farmId);
+        if (document == null) {
+            return;
+        }
+        for (String word : document.words) {
+            removePosting(words, word, farmId);
+        }
+        for (String gram : document.grams()) {
+            removePosting(trigrams, gram, farmId);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String key, Long farmId) {
+        Set<Long> farmIds = postings.get(key);
+        if (farmIds != null && farmIds.remove(farmId) && farmIds.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private void withWriteLock(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Each word is padded with two leading blanks and one trailing blank, as pg_trgm does
+    static Set<String> trigramsOf(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static final class Document {
+        private final long farmId;
+        private final String name;
+        private final String location;
+        private final Double area;
+        private final String normalizedName;
+        private final String normalizedLocation;
+        private final Set<String> words;
+        private final Set<String> nameGrams;
+        private final Set<String> locationGrams;
+
+        private Document(long farmId, String name, String location, Double area) {
+            this.farmId = farmId;
+            this.name = name;
+            this.location = location;
+            this.area = area;
+            this.normalizedName = normalize(name);
+            this.normalizedLocation = normalize(location);
+            this.words = new HashSet<>();
+            addWords(normalizedName);
+            addWords(normalizedLocation);
+            this.nameGrams = trigramsOf(normalizedName);
+            this.locationGrams = trigramsOf(normalizedLocation);
+        }
+
+        static Document of(long farmId, String name, String location, Double area) {
+            return new Document(farmId, name, location, area);
+        }
+
+        private void addWords(String normalized) {
+            for (String word : normalized.split(" ")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>(nameGrams);
+            grams.addAll(locationGrams);
+            return grams;
+        }
+    }
+}
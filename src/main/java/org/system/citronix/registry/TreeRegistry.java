@@ -0,0 +1,271 @@
+package org.system.citronix.registry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.system.citronix.event.FieldsDeletedEvent;
+import org.system.citronix.event.TreesPlantedEvent;
+import org.system.citronix.event.TreesRemovedEvent;
+import org.system.citronix.repository.TreePlantingRepository;
+import org.system.citronix.util.TreeAgeTable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-side copy of all trees as columnar primitive arrays, one immutable segment per field with
+ * trees sorted by plant date. Loaded once the application is ready and kept current from committed
+ * tree writes. Until loading completes {@link #isReady()} is false and callers read the database.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "citronix.tree-registry.enabled", havingValue = "true")
+public class TreeRegistry {
+    // Array headers plus the segment object and its map entry
+    private static final long SEGMENT_OVERHEAD_BYTES = 96;
+
+    private final TreePlantingRepository treePlantingRepository;
+    private final Map<Long, FieldSegment> segments = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+    private List<Runnable> pendingUpdates = new ArrayList<>();  // updates committed while loading
+    private volatile boolean ready;
+
+    public TreeRegistry(TreePlantingRepository treePlantingRepository, MeterRegistry meterRegistry) {
+        this.treePlantingRepository = treePlantingRepository;
+        Gauge.builder("citronix.tree.registry.memory", this, TreeRegistry::estimatedBytes)
+                .description("Estimated heap used by the tree registry arrays")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("citronix.tree.registry.trees", this, TreeRegistry::treeCount)
+                .description("Trees held by the tree registry")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        Map<Long, SegmentBuilder> builders = new HashMap<>();
+        treePlantingRepository.forEachTree((treeId, fieldId, plantEpochDay) ->
+                builders.computeIfAbsent(fieldId, id -> new SegmentBuilder()).add(treeId, plantEpochDay));
+
+        synchronized (loadLock) {
+            builders.forEach((fieldId, builder) -> segments.put(fieldId, builder.build()));
+            // Updates are idempotent, so replaying ones already in the snapshot is harmless
+            pendingUpdates.forEach(Runnable::run);
+            pendingUpdates = null;
+            ready = true;
+        }
+        log.info("Loaded tree registry: {} trees in {} fields, ~{} bytes, {} ms",
+                treeCount(), segments.size(), estimatedBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTreesPlanted(TreesPlantedEvent event) {
+        long[] treeIds = event.treeIds().stream().mapToLong(Long::longValue).toArray();
+        int[] plantEpochDays = event.plantDates().stream().mapToInt(date -> (int) date.toEpochDay()).toArray();
+        apply(() -> segments.compute(event.fieldId(), (fieldId, segment) ->
+                (segment != null ? segment : FieldSegment.EMPTY).plus(treeIds, plantEpochDays)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTreesRemoved(TreesRemovedEvent event) {
+        Set<Long> treeIds = new HashSet<>(event.treeIds());
+        apply(() -> segments.computeIfPresent(event.fieldId(), (fieldId, segment) -> segment.minus(treeIds)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFieldsDeleted(FieldsDeletedEvent event) {
+        apply(() -> event.fieldIds().forEach(segments::remove));
+    }
+
+    private void apply(Runnable update) {
+        if (!ready) {
+            synchronized (loadLock) {
+                if (pendingUpdates != null) {
+                    pendingUpdates.add(update);
+                    return;
+                }
+            }
+        }
+        update.run();
+    }
+
+    public long countTrees(Long fieldId) {
+        FieldSegment segment = segments.get(fieldId);
+        return segment != null ? segment.plantEpochDays.length : 0;
+    }
+
+    public long countPlantedInPeriod(Long fieldId, LocalDate startDate, LocalDate endDate) {
+        FieldSegment segment = segments.get(fieldId);
+        if (segment == null) {
+            return 0;
+        }
+        int from = segment.countPlantedBefore(startDate.toEpochDay());
+        int to = segment.countPlantedBefore(endDate.toEpochDay() + 1);
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Trees of the field per age in whole years on the given date.
+     */
+    public Map<Integer, Long> ageHistogram(Long fieldId, LocalDate date) {
+        Map<Integer, Long> histogram = new TreeMap<>();
+        FieldSegment segment = segments.get(fieldId);
+        if (segment == null) {
+            return histogram;
+        }
+
+        // Plant dates are ascending, so equal ages form runs
+        TreeAgeTable ageTable = TreeAgeTable.of(date);
+        int[] days = segment.plantEpochDays;
+        int runStart = 0;
+        int runAge = days.length > 0 ? ageTable.ageOfEpochDay(days[0]) : 0;
+        for (int i = 1; i <= days.length; i++) {
+            int age = i < days.length ? ageTable.ageOfEpochDay(days[i]) : Integer.MIN_VALUE;
+            if (age != runAge) {
+                histogram.put(runAge, (long) (i - runStart));
+                runStart = i;
+                runAge = age;
+            }
+        }
+        return histogram;
+    }
+
+    public long treeCount() {
+        long trees = 0;
+        for (FieldSegment segment : segments.values()) {
+            trees += segment.plantEpochDays.length;
+        }
+        return trees;
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (FieldSegment segment : segments.values()) {
+            bytes += SEGMENT_OVERHEAD_BYTES
+                    + (long) segment.treeIds.length * Long.BYTES
+                    + (long) segment.plantEpochDays.length * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Trees of one field, sorted by plant date. Never modified; writes replace the segment.
+     */
+    private static final class FieldSegment {
+        static final FieldSegment EMPTY = new FieldSegment(new long[0], new int[0]);
+
+        final long[] treeIds;
+        final int[] plantEpochDays;
+
+        FieldSegment(long[] treeIds, int[] plantEpochDays) {
+            this.treeIds = treeIds;
+            this.plantEpochDays = plantEpochDays;
+        }
+
+        int countPlantedBefore(long epochDay) {
+            int low = 0;
+            int high = plantEpochDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (plantEpochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        FieldSegment plus(long[] addedIds, int[] addedDays) {
+            Set<Long> existing = new HashSet<>(treeIds.length);
+            for (long treeId : treeIds) {
+                existing.add(treeId);
+            }
+            SegmentBuilder builder = new SegmentBuilder();
+            for (int i = 0; i < treeIds.length; i++) {
+                builder.add(treeIds[i], plantEpochDays[i]);
+            }
+            for (int i = 0; i < addedIds.length; i++) {
+                if (existing.add(addedIds[i])) {
+                    builder.add(addedIds[i], addedDays[i]);
+                }
+            }
+            return builder.build();
+        }
+
+        FieldSegment minus(Set<Long> removedIds) {
+            SegmentBuilder builder = new SegmentBuilder();
+            for (int i = 0; i < treeIds.length; i++) {
+                if (!removedIds.contains(treeIds[i])) {
+                    builder.add(treeIds[i], plantEpochDays[i]);
+                }
+            }
+            // Returning null drops the field from the map
+            return builder.size > 0 ? builder.build() : null;
+        }
+    }
+
+    private static final class SegmentBuilder {
+        private long[] treeIds = new long[16];
+        private int[] plantEpochDays = new int[16];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long treeId, int plantEpochDay) {
+            if (size == treeIds.length) {
+                treeIds = Arrays.copyOf(treeIds, size * 2);
+                plantEpochDays = Arrays.copyOf(plantEpochDays, size * 2);
+            }
+            if (size > 0 && plantEpochDay < plantEpochDays[size - 1]) {
+                sorted = false;
+            }
+            treeIds[size] = treeId;
+            plantEpochDays[size] = plantEpochDay;
+            size++;
+        }
+
+        FieldSegment build() {
+            long[] ids = Arrays.copyOf(treeIds, size);
+            int[] days = Arrays.copyOf(plantEpochDays, size);
+            if (sorted) {
+                return new FieldSegment(ids, days);
+            }
+
+            // Sort by plant day, keeping the original position in the low bits to carry the IDs along
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) days[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+            long[] sortedIds = new long[size];
+            int[] sortedDays = new int[size];
+            for (int i = 0; i < size; i++) {
+                int position = (int) keys[i];
+                sortedIds[i] = ids[position];
+                sortedDays[i] = days[position];
+            }
+            return new FieldSegment(sortedIds, sortedDays);
+        }
+    }
+}
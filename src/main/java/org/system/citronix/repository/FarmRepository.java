@@ -1,9 +1,12 @@
 package org.system.citronix.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.system.citronix.entity.Farm;
+import org.system.citronix.repository.projection.FarmSearchEntry;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,4 +26,44 @@ public interface FarmRepository extends JpaRepository<Farm, Long> {
 
     @Query("SELECT f FROM Farm f LEFT JOIN FETCH f.fields WHERE f.id = :id")
     Farm findByIdWithFields(Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT f FROM Farm f WHERE f.id > :afterId ORDER BY f.id")
+    List<Farm> findPageAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT f.id AS id, f.name AS name, f.location AS location, f.area AS area FROM Farm f")
+    List<FarmSearchEntry> findAllSearchEntries();
+
+    // Fallback for farm search while the in-memory index is loading; the prefix is lower case and
+    // matched literally, like the index does, so LIKE wildcards in user input have no effect
+    @Query("SELECT f FROM Farm f WHERE LOCATE(:prefix, LOWER(f.name)) = 1 " +
+            "OR LOCATE(:prefix, LOWER(f.location)) = 1 ORDER BY f.name, f.id")
+    List<Farm> findByNameOrLocationPrefix(String prefix, Pageable pageable);
+
+    /**
+     * Allocates farm area to fields. Returns 0 when the fields would exceed the farm area.
+     */
+    @Modifying
+    @Query("UPDATE Farm f SET f.allocatedArea = f.allocatedArea + :delta " +
+            "WHERE f.id = :farmId AND f.allocatedArea + :delta <= f.area")
+    int allocateArea(Long farmId, double delta);
+
+    /**
+     * Changes the farm area. Returns 0 when its fields already take up more than the new area.
+     */
+    @Modifying
+    @Query("UPDATE Farm f SET f.area = :area WHERE f.id = :farmId AND f.allocatedArea <= :area")
+    int resizeArea(Long farmId, double area);
+
+    @Modifying
+    @Query("UPDATE Farm f SET f.allocatedArea = f.allocatedArea - :area WHERE f.id = :farmId")
+    int releaseArea(Long farmId, double area);
+
+    @Modifying
+    @Query("UPDATE Farm f SET f.allocatedArea = " +
+            "(SELECT COALESCE(SUM(fl.area), 0) FROM Field fl WHERE fl.farm.id = f.id) WHERE f.id = :farmId")
+    int recalculateAllocatedArea(Long farmId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Farm f WHERE f.id = :id")
+    int deleteRowById(Long id);
+}
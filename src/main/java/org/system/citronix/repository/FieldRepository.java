@@ -1,12 +1,17 @@
 package org.system.citronix.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.system.citronix.entity.Field;
+import org.system.citronix.repository.projection.FieldSummary;
 
 import java.util.List;
 
+import static org.system.citronix.constant.CitronixConstants.MAX_TREES_PER_HECTARE;
+
 @Repository
 public interface FieldRepository extends JpaRepository<Field, Long> {
     List<Field> findByFarmId(Long farmId);
@@ -22,4 +27,45 @@ public interface FieldRepository extends JpaRepository<Field, Long> {
 
     @Query("SELECT SUM(f.area) FROM Field f WHERE f.farm.id = :farmId")
     Double sumAreaByFarmId(Long farmId);
-}
\ No newline at end of file
+
+    /**
+     * Reserves space for new trees. Returns 0 when the field would exceed its tree density.
+     */
+    @Modifying
+    @Query("UPDATE Field f SET f.treeCount = f.treeCount + :count " +
+            "WHERE f.id = :fieldId AND f.treeCount + :count <= f.area * " + MAX_TREES_PER_HECTARE)
+    int incrementTreeCount(Long fieldId, int count);
+
+    @Modifying
+    @Query("UPDATE Field f SET f.treeCount = f.treeCount - :count WHERE f.id = :fieldId")
+    int decrementTreeCount(Long fieldId, int count);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Field f SET f.treeCount = " +
+            "(SELECT COUNT(t) FROM Tree t WHERE t.field.id = f.id) WHERE f.id = :fieldId")
+    int recalculateTreeCount(Long fieldId);
+
+    @Query("SELECT f.id AS id, f.area AS area, f.farm.id AS farmId, f.treeCount AS treeCount " +
+            "FROM Field f WHERE f.id > :afterId ORDER BY f.id")
+    List<FieldSummary> findSummaryPageAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT f.id AS id, f.area AS area, f.farm.id AS farmId, f.treeCount AS treeCount " +
+            "FROM Field f WHERE f.farm.id = :farmId ORDER BY f.id")
+    List<FieldSummary> findSummariesByFarmId(Long farmId);
+
+    @Query("SELECT f.id AS id, f.area AS area, f.farm.id AS farmId, f.treeCount AS treeCount " +
+            "FROM Field f WHERE f.area <= :maxArea ORDER BY f.id")
+    List<FieldSummary> findSummariesByMaxArea(Double maxArea);
+
+    @Query("SELECT f.id FROM Field f WHERE f.farm.id = :farmId")
+    List<Long> findIdsByFarmId(Long farmId);
+
+    // Tier summary rows go with their fields through ON DELETE CASCADE
+    @Modifying
+    @Query("DELETE FROM Field f WHERE f.farm.id = :farmId")
+    int deleteByFarmId(Long farmId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Field f WHERE f.id = :id")
+    int deleteRowById(Long id);
+}
@@ -0,0 +1,37 @@
+package org.system.citronix.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.system.citronix.entity.FieldTierSummary;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.util.List;
+
+@Repository
+public interface FieldTierSummaryRepository extends JpaRepository<FieldTierSummary, Long> {
+
+    @Query("SELECT s FROM FieldTierSummary s WHERE s.field.farm.id = :farmId ORDER BY s.field.id")
+    List<FieldTierSummary> findByFarmId(Long farmId);
+
+    // The right-hand treeCount is the value before the update, so the quantity uses the new count
+    @Modifying
+    @Query("UPDATE FieldTierSummary s SET s.treeCount = s.treeCount + :delta, " +
+            "s.expectedQuantity = (s.treeCount + :delta) * :productivity " +
+            "WHERE s.field.id = :fieldId AND s.tier = :tier")
+    int adjustTreeCount(Long fieldId, ProductivityTierEnum tier, long delta, double productivity);
+
+    /**
+     * Adds an empty row for the field and tier unless one exists. A concurrent insert of the same
+     * row is waited for and then skipped rather than failing on the unique constraint.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO field_tier_summary (field_id, tier, tree_count, expected_quantity) " +
+            "VALUES (:fieldId, :tier, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertEmptyRowIfMissing(Long fieldId, String tier);
+
+    @Modifying
+    @Query("DELETE FROM FieldTierSummary s")
+    int deleteAllRows();
+}
@@ -1,12 +1,20 @@
 package org.system.citronix.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.system.citronix.entity.HarvestDetail;
 import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.repository.projection.FieldTierCount;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+
+import static org.system.citronix.constant.CitronixConstants.*;
 
 @Repository
 public interface HarvestDetailRepository extends JpaRepository<HarvestDetail, Long> {
@@ -22,4 +30,77 @@ public interface HarvestDetailRepository extends JpaRepository<HarvestDetail, Lo
             "AND hd.harvest.season = :season " +
             "AND YEAR(hd.harvest.date) = :year")
     boolean existsByTreeIdAndHarvestSeasonAndYear(Long treeId, SeasonEnum season, int year);
-}
\ No newline at end of file
+
+    @Query("SELECT hd.tree.id FROM HarvestDetail hd " +
+            "WHERE hd.tree.field.id = :fieldId " +
+            "AND hd.harvest.season = :season " +
+            "AND YEAR(hd.harvest.date) = :year")
+    Set<Long> findHarvestedTreeIdsByFieldId(Long fieldId, SeasonEnum season, int year);
+
+    @Query("SELECT hd.tree.id FROM HarvestDetail hd " +
+            "WHERE hd.tree.field.farm.id = :farmId " +
+            "AND hd.harvest.season = :season " +
+            "AND YEAR(hd.harvest.date) = :year")
+    Set<Long> findHarvestedTreeIdsByFarmId(Long farmId, SeasonEnum season, int year);
+
+    @Query("SELECT hd.tree.id FROM HarvestDetail hd " +
+            "WHERE hd.tree.id IN :treeIds " +
+            "AND hd.harvest.season = :season " +
+            "AND YEAR(hd.harvest.date) = :year")
+    Set<Long> findHarvestedTreeIdsAmong(Collection<Long> treeIds, SeasonEnum season, int year);
+
+    @Query("SELECT SUM(hd.quantity) FROM HarvestDetail hd " +
+            "WHERE hd.harvest.id = :harvestId AND hd.tree.field.farm.id = :farmId")
+    Double sumQuantityByHarvestIdAndFarmId(Long harvestId, Long farmId);
+
+    @Query("SELECT t.field.id AS fieldId, " +
+            "SUM(CASE WHEN t.plantDate > :matureCutoff THEN 1 ELSE 0 END) AS youngTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :matureCutoff AND t.plantDate > :oldCutoff THEN 1 ELSE 0 END) AS matureTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :oldCutoff AND t.plantDate > :retiredCutoff THEN 1 ELSE 0 END) AS oldTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :retiredCutoff THEN 1 ELSE 0 END) AS retiredTrees " +
+            "FROM HarvestDetail hd JOIN hd.tree t WHERE t.field.farm.id = :farmId " +
+            "AND hd.harvest.season = :season AND YEAR(hd.harvest.date) = :year " +
+            "GROUP BY t.field.id ORDER BY t.field.id")
+    List<FieldTierCount> countHarvestedTreesByFieldAndTier(Long farmId, SeasonEnum season, int year,
+                                                           LocalDate matureCutoff, LocalDate oldCutoff,
+                                                           LocalDate retiredCutoff);
+
+    @Query("SELECT COALESCE(SUM(hd.quantity), 0) FROM HarvestDetail hd " +
+            "WHERE hd.tree.field.farm.id = :farmId " +
+            "AND hd.harvest.season = :season " +
+            "AND YEAR(hd.harvest.date) = :year")
+    double sumQuantityByFarmIdAndSeasonAndYear(Long farmId, SeasonEnum season, int year);
+
+    /**
+     * Creates a detail for every tree of the farm not yet harvested in the season, computing the
+     * quantity from plant-date cutoffs the same way {@code Tree.getProductivity} does.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO harvest_details (id, harvest_id, tree_id, quantity) " +
+            "SELECT nextval('harvest_details_seq'), :harvestId, t.id, " +
+            "CASE WHEN t.plant_date <= :retiredCutoff THEN 0.0 " +
+            "WHEN t.plant_date <= :oldCutoff THEN " + OLD_TREE_PRODUCTIVITY + " " +
+            "WHEN t.plant_date <= :matureCutoff THEN " + MATURE_TREE_PRODUCTIVITY + " " +
+            "ELSE " + YOUNG_TREE_PRODUCTIVITY + " END " +
+            "FROM trees t JOIN fields f ON f.id = t.field_id " +
+            "WHERE f.farm_id = :farmId " +
+            "AND NOT EXISTS (SELECT 1 FROM harvest_details hd JOIN harvests h ON h.id = hd.harvest_id " +
+            "WHERE hd.tree_id = t.id AND h.season = :season " +
+            "AND h.date >= :yearStart AND h.date < :nextYearStart)",
+            nativeQuery = true)
+    int insertHarvestDetailsForFarm(Long harvestId, Long farmId, String season,
+                                    LocalDate yearStart, LocalDate nextYearStart,
+                                    LocalDate matureCutoff, LocalDate oldCutoff, LocalDate retiredCutoff);
+
+    @Query("SELECT hd FROM HarvestDetail hd WHERE hd.id > :afterId ORDER BY hd.id")
+    List<HarvestDetail> findPageAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM HarvestDetail hd WHERE hd.tree.id IN " +
+            "(SELECT t.id FROM Tree t WHERE t.field.id IN (SELECT f.id FROM Field f WHERE f.farm.id = :farmId))")
+    int deleteByFarmId(Long farmId);
+
+    @Modifying
+    @Query("DELETE FROM HarvestDetail hd WHERE hd.tree.id IN (SELECT t.id FROM Tree t WHERE t.field.id = :fieldId)")
+    int deleteByFieldId(Long fieldId);
+}
@@ -0,0 +1,33 @@
+package org.system.citronix.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.system.citronix.entity.HarvestJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * The claim queries move a job between statuses only when it is still in the expected status, so
+ * two callers racing for the same job see exactly one of them succeed.
+ */
+@Repository
+public interface HarvestJobRepository extends JpaRepository<HarvestJob, Long> {
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE HarvestJob j SET j.status = org.system.citronix.enums.JobStatusEnum.PENDING, j.finishedAt = NULL " +
+            "WHERE j.id = :id AND j.status = org.system.citronix.enums.JobStatusEnum.FAILED")
+    int claimFailedForRestart(Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE HarvestJob j SET j.status = org.system.citronix.enums.JobStatusEnum.PENDING, j.finishedAt = NULL " +
+            "WHERE j.id = :id AND j.status = org.system.citronix.enums.JobStatusEnum.RUNNING " +
+            "AND COALESCE(j.heartbeatAt, j.startedAt) < :staleBefore")
+    int claimStaleForRestart(Long id, LocalDateTime staleBefore);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE HarvestJob j SET j.status = org.system.citronix.enums.JobStatusEnum.RUNNING, " +
+            "j.startedAt = COALESCE(j.startedAt, :now), j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status = org.system.citronix.enums.JobStatusEnum.PENDING")
+    int claimForRun(Long id, LocalDateTime now);
+}
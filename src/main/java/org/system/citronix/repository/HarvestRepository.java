@@ -1,6 +1,8 @@
 package org.system.citronix.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.system.citronix.entity.Harvest;
@@ -47,4 +49,49 @@ public interface HarvestRepository extends JpaRepository<Harvest, Long> {
             int year,
             Long harvestId
     );
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE Harvest h SET h.totalQuantity = h.totalQuantity + :delta WHERE h.id = :harvestId")
+    int incrementTotalQuantity(Long harvestId, double delta);
+
+    @Modifying
+    @Query("UPDATE Harvest h SET h.totalQuantity = :totalQuantity WHERE h.id = :harvestId")
+    int updateTotalQuantity(Long harvestId, double totalQuantity);
+
+    /**
+     * Takes the quantities of a farm's harvest details off their harvests' totals. Run before
+     * {@code HarvestDetailRepository.deleteByFarmId} in the same transaction.
+     */
+    @Modifying
+    @Query("UPDATE Harvest h SET h.totalQuantity = h.totalQuantity - " +
+            "(SELECT COALESCE(SUM(hd.quantity), 0) FROM HarvestDetail hd WHERE hd.harvest.id = h.id AND hd.tree.id IN " +
+            "(SELECT t.id FROM Tree t WHERE t.field.id IN (SELECT f.id FROM Field f WHERE f.farm.id = :farmId))) " +
+            "WHERE h.id IN (SELECT hd.harvest.id FROM HarvestDetail hd WHERE hd.tree.id IN " +
+            "(SELECT t.id FROM Tree t WHERE t.field.id IN (SELECT f.id FROM Field f WHERE f.farm.id = :farmId)))")
+    int subtractDetailsByFarmId(Long farmId);
+
+    /**
+     * Takes the quantities of a field's harvest details off their harvests' totals. Run before
+     * {@code HarvestDetailRepository.deleteByFieldId} in the same transaction.
+     */
+    @Modifying
+    @Query("UPDATE Harvest h SET h.totalQuantity = h.totalQuantity - " +
+            "(SELECT COALESCE(SUM(hd.quantity), 0) FROM HarvestDetail hd WHERE hd.harvest.id = h.id AND hd.tree.id IN " +
+            "(SELECT t.id FROM Tree t WHERE t.field.id = :fieldId)) " +
+            "WHERE h.id IN (SELECT hd.harvest.id FROM HarvestDetail hd WHERE hd.tree.id IN " +
+            "(SELECT t.id FROM Tree t WHERE t.field.id = :fieldId))")
+    int subtractDetailsByFieldId(Long fieldId);
+
+    /**
+     * Takes the quantities of a tree's harvest details off their harvests' totals. Run before the
+     * tree is deleted, since its details go with it through the cascade.
+     */
+    @Modifying
+    @Query("UPDATE Harvest h SET h.totalQuantity = h.totalQuantity - " +
+            "(SELECT COALESCE(SUM(hd.quantity), 0) FROM HarvestDetail hd WHERE hd.harvest.id = h.id AND hd.tree.id = :treeId) " +
+            "WHERE h.id IN (SELECT hd.harvest.id FROM HarvestDetail hd WHERE hd.tree.id = :treeId)")
+    int subtractDetailsByTreeId(Long treeId);
+
+    @Query("SELECT h FROM Harvest h WHERE h.id > :afterId ORDER BY h.id")
+    List<Harvest> findPageAfter(Long afterId, Pageable pageable);
+}
@@ -1,5 +1,6 @@
 package org.system.citronix.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -22,6 +23,15 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
             "WHERE s.date BETWEEN :startDate AND :endDate")
     Double calculateTotalRevenueBetweenDates(LocalDate startDate, LocalDate endDate);
 
+    // A farm earns the unit price for the quantity its own trees contributed to each sold harvest
+    @Query("SELECT COALESCE(SUM(hd.quantity * s.unitPrice), 0) FROM Sale s " +
+            "JOIN s.harvest h JOIN h.harvestDetails hd " +
+            "WHERE hd.tree.field.farm.id = :farmId AND s.date BETWEEN :startDate AND :endDate")
+    double calculateFarmRevenueBetweenDates(Long farmId, LocalDate startDate, LocalDate endDate);
+
     @Query("SELECT AVG(s.unitPrice) FROM Sale s WHERE s.harvest.season = :season")
     Double calculateAverageUnitPriceBySeason(org.system.citronix.enums.SeasonEnum season);
-}
\ No newline at end of file
+
+    @Query("SELECT s FROM Sale s WHERE s.id > :afterId ORDER BY s.id")
+    List<Sale> findPageAfter(Long afterId, Pageable pageable);
+}
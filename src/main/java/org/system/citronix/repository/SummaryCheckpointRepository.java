@@ -0,0 +1,23 @@
+package org.system.citronix.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.system.citronix.entity.SummaryCheckpoint;
+
+import java.util.Optional;
+
+@Repository
+public interface SummaryCheckpointRepository extends JpaRepository<SummaryCheckpoint, String> {
+
+    // Shared lock: writers of a summary run concurrently but not alongside its rollover
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT c FROM SummaryCheckpoint c WHERE c.name = :name")
+    Optional<SummaryCheckpoint> findByNameForShare(String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SummaryCheckpoint c WHERE c.name = :name")
+    Optional<SummaryCheckpoint> findByNameForUpdate(String name);
+}
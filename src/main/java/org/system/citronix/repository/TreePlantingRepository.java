@@ -0,0 +1,110 @@
+package org.system.citronix.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.system.citronix.repository.projection.TreePlantings;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.system.citronix.constant.CitronixConstants.FORECAST_FETCH_SIZE;
+
+/**
+ * Reads tree plant dates straight from JDBC into primitive arrays, for computations over a whole
+ * farm that would otherwise load every tree as an entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TreePlantingRepository {
+    private static final String PLANTINGS_BY_FARM = """
+            SELECT f.id, t.plant_date
+            FROM fields f
+            LEFT JOIN trees t ON t.field_id = f.id
+            WHERE f.farm_id = ?
+            ORDER BY f.id, t.plant_date
+            """;
+
+    private static final String ALL_TREES = """
+            SELECT t.id, t.field_id, t.plant_date
+            FROM trees t
+            ORDER BY t.field_id, t.plant_date, t.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Loads the plant dates of every tree in the farm. Fields without trees are included with an
+     * empty range.
+     */
+    public TreePlantings findPlantingsByFarmId(Long farmId) {
+        PlantingsBuilder builder = new PlantingsBuilder();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PLANTINGS_BY_FARM);
+            statement.setFetchSize(FORECAST_FETCH_SIZE);
+            statement.setLong(1, farmId);
+            return statement;
+        }, resultSet -> {
+            builder.add(resultSet.getLong(1), resultSet.getObject(2, LocalDate.class));
+        });
+        return builder.build();
+    }
+
+    /**
+     * Streams every tree as (tree ID, field ID, plant epoch day), ordered by field and plant date.
+     */
+    public void forEachTree(TreeRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ALL_TREES);
+            statement.setFetchSize(FORECAST_FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            handler.accept(
+                    resultSet.getLong(1),
+                    resultSet.getLong(2),
+                    (int) resultSet.getObject(3, LocalDate.class).toEpochDay()
+            );
+        });
+    }
+
+    @FunctionalInterface
+    public interface TreeRowHandler {
+        void accept(long treeId, long fieldId, int plantEpochDay);
+    }
+
+    private static final class PlantingsBuilder {
+        private long[] fieldIds = new long[16];
+        private int[] fieldOffsets = new int[17];
+        private int[] plantEpochDays = new int[1024];
+        private int fields;
+        private int trees;
+
+        void add(long fieldId, LocalDate plantDate) {
+            if (fields == 0 || fieldIds[fields - 1] != fieldId) {
+                if (fields == fieldIds.length) {
+                    fieldIds = Arrays.copyOf(fieldIds, fields * 2);
+                    fieldOffsets = Arrays.copyOf(fieldOffsets, fields * 2 + 1);
+                }
+                fieldIds[fields] = fieldId;
+                fieldOffsets[fields] = trees;
+                fields++;
+            }
+            if (plantDate != null) {
+                if (trees == plantEpochDays.length) {
+                    plantEpochDays = Arrays.copyOf(plantEpochDays, trees * 2);
+                }
+                plantEpochDays[trees++] = (int) plantDate.toEpochDay();
+            }
+        }
+
+        TreePlantings build() {
+            fieldOffsets[fields] = trees;
+            return new TreePlantings(
+                    Arrays.copyOf(fieldIds, fields),
+                    Arrays.copyOf(fieldOffsets, fields + 1),
+                    Arrays.copyOf(plantEpochDays, trees)
+            );
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package org.system.citronix.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.repository.projection.FieldTierCount;
+import org.system.citronix.repository.projection.FieldTreeCount;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.system.citronix.constant.CitronixConstants.TREE_STREAM_FETCH_SIZE;
 
 @Repository
 public interface TreeRepository extends JpaRepository<Tree, Long> {
@@ -19,9 +31,11 @@ public interface TreeRepository extends JpaRepository<Tree, Long> {
     @Query("SELECT COUNT(t) FROM Tree t WHERE t.field.id = :fieldId")
     long countTreesByFieldId(Long fieldId);
 
-    @Query(value = "SELECT * FROM trees WHERE EXTRACT(YEAR FROM AGE(CURRENT_DATE, plant_date)) > :age",
-            nativeQuery = true)
-    List<Tree> findTreesOlderThan(@Param("age") int age);
+    @Query("SELECT t FROM Tree t WHERE t.plantDate <= :cutoff")
+    List<Tree> findTreesPlantedOnOrBefore(LocalDate cutoff);
+
+    @Query("SELECT t FROM Tree t WHERE t.plantDate > :after AND t.plantDate <= :cutoff")
+    List<Tree> findTreesPlantedAfterAndOnOrBefore(LocalDate after, LocalDate cutoff);
 
     @Query("SELECT t FROM Tree t LEFT JOIN FETCH t.harvestDetails hd LEFT JOIN FETCH hd.harvest WHERE t.id = :id")
     Tree findByIdWithHarvestDetails(Long id);
@@ -32,4 +46,78 @@ public interface TreeRepository extends JpaRepository<Tree, Long> {
 
     @Query("SELECT t FROM Tree t WHERE t.field.farm.id = :farmId")
     List<Tree> findAllTreesByFarmId(@Param("farmId") Long farmId);
-}
\ No newline at end of file
+
+    @Query("SELECT COUNT(t) FROM Tree t WHERE t.field.farm.id = :farmId")
+    long countTreesByFarmId(Long farmId);
+
+    @Query("SELECT t FROM Tree t WHERE t.field.farm.id = :farmId AND t.id > :afterId ORDER BY t.id")
+    List<Tree> findChunkByFarmId(Long farmId, Long afterId, Pageable pageable);
+
+    @Query("SELECT t.field.id AS fieldId, " +
+            "SUM(CASE WHEN t.plantDate > :matureCutoff THEN 1 ELSE 0 END) AS youngTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :matureCutoff AND t.plantDate > :oldCutoff THEN 1 ELSE 0 END) AS matureTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :oldCutoff AND t.plantDate > :retiredCutoff THEN 1 ELSE 0 END) AS oldTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :retiredCutoff THEN 1 ELSE 0 END) AS retiredTrees " +
+            "FROM Tree t WHERE t.field.farm.id = :farmId AND t.plantDate <= :date " +
+            "GROUP BY t.field.id ORDER BY t.field.id")
+    List<FieldTierCount> countTreesByFieldAndTier(Long farmId, LocalDate date, LocalDate matureCutoff,
+                                                  LocalDate oldCutoff, LocalDate retiredCutoff);
+
+    // The trees a farm harvest would cover: all of them, less those already harvested in the season
+    @Query("SELECT t.field.id AS fieldId, " +
+            "SUM(CASE WHEN t.plantDate > :matureCutoff THEN 1 ELSE 0 END) AS youngTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :matureCutoff AND t.plantDate > :oldCutoff THEN 1 ELSE 0 END) AS matureTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :oldCutoff AND t.plantDate > :retiredCutoff THEN 1 ELSE 0 END) AS oldTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :retiredCutoff THEN 1 ELSE 0 END) AS retiredTrees " +
+            "FROM Tree t WHERE t.field.farm.id = :farmId " +
+            "AND NOT EXISTS (SELECT hd.id FROM HarvestDetail hd WHERE hd.tree = t " +
+            "AND hd.harvest.season = :season AND YEAR(hd.harvest.date) = :year) " +
+            "GROUP BY t.field.id ORDER BY t.field.id")
+    List<FieldTierCount> countHarvestableTreesByFieldAndTier(Long farmId, SeasonEnum season, int year,
+                                                             LocalDate matureCutoff, LocalDate oldCutoff,
+                                                             LocalDate retiredCutoff);
+
+    // Same tiers as Tree.getProductivity: trees planted after the cutoffs' date count as young
+    @Query("SELECT t.field.id AS fieldId, " +
+            "SUM(CASE WHEN t.plantDate > :matureCutoff THEN 1 ELSE 0 END) AS youngTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :matureCutoff AND t.plantDate > :oldCutoff THEN 1 ELSE 0 END) AS matureTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :oldCutoff AND t.plantDate > :retiredCutoff THEN 1 ELSE 0 END) AS oldTrees, " +
+            "SUM(CASE WHEN t.plantDate <= :retiredCutoff THEN 1 ELSE 0 END) AS retiredTrees " +
+            "FROM Tree t GROUP BY t.field.id ORDER BY t.field.id")
+    List<FieldTierCount> countAllTreesByFieldAndTier(LocalDate matureCutoff, LocalDate oldCutoff, LocalDate retiredCutoff);
+
+    @Query("SELECT t.field.id AS fieldId, COUNT(t) AS trees FROM Tree t " +
+            "WHERE t.plantDate > :after AND t.plantDate <= :onOrBefore GROUP BY t.field.id")
+    List<FieldTreeCount> countTreesByFieldPlantedBetween(LocalDate after, LocalDate onOrBefore);
+
+    @Query("SELECT t FROM Tree t WHERE t.id > :afterId ORDER BY t.id")
+    List<Tree> findPageAfter(Long afterId, Pageable pageable);
+
+    // A null bound leaves that side of the plant date band open
+    @Query("SELECT t FROM Tree t WHERE t.field.id = :fieldId AND t.id > :afterId " +
+            "AND (:plantedAfter IS NULL OR t.plantDate > :plantedAfter) " +
+            "AND (:plantedOnOrBefore IS NULL OR t.plantDate <= :plantedOnOrBefore) ORDER BY t.id")
+    List<Tree> findFieldPageAfter(Long fieldId, Long afterId, LocalDate plantedAfter,
+                                  LocalDate plantedOnOrBefore, Pageable pageable);
+
+    /**
+     * Streams a field's trees from a server-side cursor. Must be consumed inside a transaction
+     * and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + TREE_STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Tree t WHERE t.field.id = :fieldId " +
+            "AND (:plantedAfter IS NULL OR t.plantDate > :plantedAfter) " +
+            "AND (:plantedOnOrBefore IS NULL OR t.plantDate <= :plantedOnOrBefore) ORDER BY t.id")
+    Stream<Tree> streamByFieldId(Long fieldId, LocalDate plantedAfter, LocalDate plantedOnOrBefore);
+
+    @Modifying
+    @Query("DELETE FROM Tree t WHERE t.field.id IN (SELECT f.id FROM Field f WHERE f.farm.id = :farmId)")
+    int deleteByFarmId(Long farmId);
+
+    @Modifying
+    @Query("DELETE FROM Tree t WHERE t.field.id = :fieldId")
+    int deleteByFieldId(Long fieldId);
+}
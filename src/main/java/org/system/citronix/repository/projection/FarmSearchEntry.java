@@ -0,0 +1,8 @@
+package org.system.citronix.repository.projection;
+
+public interface FarmSearchEntry {
+    Long getId();
+    String getName();
+    String getLocation();
+    Double getArea();
+}
@@ -0,0 +1,22 @@
+package org.system.citronix.repository.projection;
+
+import static org.system.citronix.constant.CitronixConstants.MAX_TREES_PER_HECTARE;
+
+/**
+ * Field row used by the list endpoints. Capacity is derived here so that listing fields
+ * never has to load the field entity or its trees.
+ */
+public interface FieldSummary {
+    Long getId();
+    Double getArea();
+    Long getFarmId();
+    Integer getTreeCount();
+
+    default int getMaximumTreeCapacity() {
+        return (int) (getArea() * MAX_TREES_PER_HECTARE);
+    }
+
+    default int getAvailableTreeSpaces() {
+        return getMaximumTreeCapacity() - getTreeCount();
+    }
+}
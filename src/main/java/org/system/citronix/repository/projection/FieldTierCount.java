@@ -0,0 +1,9 @@
+package org.system.citronix.repository.projection;
+
+public interface FieldTierCount {
+    Long getFieldId();
+    Long getYoungTrees();
+    Long getMatureTrees();
+    Long getOldTrees();
+    Long getRetiredTrees();
+}
@@ -0,0 +1,6 @@
+package org.system.citronix.repository.projection;
+
+public interface FieldTreeCount {
+    Long getFieldId();
+    Long getTrees();
+}
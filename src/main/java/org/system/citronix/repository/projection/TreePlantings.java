@@ -0,0 +1,42 @@
+package org.system.citronix.repository.projection;
+
+/**
+ * Plant dates of a farm's trees as primitive arrays, grouped by field. The trees of field
+ * {@code i} occupy {@code [fieldStart(i), fieldEnd(i))} of {@link #getPlantEpochDays()}, sorted by
+ * plant date.
+ */
+public final class TreePlantings {
+    private final long[] fieldIds;
+    private final int[] fieldOffsets;
+    private final int[] plantEpochDays;
+
+    public TreePlantings(long[] fieldIds, int[] fieldOffsets, int[] plantEpochDays) {
+        this.fieldIds = fieldIds;
+        this.fieldOffsets = fieldOffsets;
+        this.plantEpochDays = plantEpochDays;
+    }
+
+    public int fieldCount() {
+        return fieldIds.length;
+    }
+
+    public int treeCount() {
+        return fieldOffsets[fieldIds.length];
+    }
+
+    public long fieldId(int field) {
+        return fieldIds[field];
+    }
+
+    public int fieldStart(int field) {
+        return fieldOffsets[field];
+    }
+
+    public int fieldEnd(int field) {
+        return fieldOffsets[field + 1];
+    }
+
+    public int[] getPlantEpochDays() {
+        return plantEpochDays;
+    }
+}
@@ -0,0 +1,7 @@
+package org.system.citronix.service;
+
+import org.system.citronix.dto.response.FarmDashboardResponse;
+
+public interface FarmDashboardService {
+    FarmDashboardResponse getDashboard(Long farmId);
+}
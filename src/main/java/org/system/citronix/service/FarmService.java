@@ -1,7 +1,10 @@
 package org.system.citronix.service;
 
 import org.system.citronix.dto.request.FarmRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.dto.response.FarmSearchResultResponse;
+import org.system.citronix.dto.response.PageResponse;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,9 +15,11 @@ public interface FarmService {
     FarmResponse getFarmById(Long id);
     FarmResponse getFarmWithFields(Long id);
     double calculateLeftAreaInFarm(Long id);
-    List<FarmResponse> getAllFarms();
-    void deleteFarm(Long id);
+    PageResponse<FarmResponse> getAllFarms(Long after, int limit);
+    DeletionResponse deleteFarm(Long id);
     List<FarmResponse> getFarmsByMinArea(Double minArea);
     List<FarmResponse> getFarmsByDateRange(LocalDate startDate, LocalDate endDate);
     boolean isFarmNameUnique(String name);
+    FarmResponse recountAllocatedArea(Long id);
+    PageResponse<FarmSearchResultResponse> searchFarms(String query, int offset, int limit);
 }
\ No newline at end of file
@@ -1,19 +1,31 @@
 package org.system.citronix.service;
 
 import org.system.citronix.dto.request.FieldRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FieldResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeInFieldResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FieldService {
     FieldResponse createField(FieldRequest request);
     FieldResponse updateField(Long id, FieldRequest request);
     FieldResponse getFieldById(Long id);
-    FieldResponse getFieldWithTrees(Long id);
-    List<FieldResponse> getAllFields();
+    FieldResponse getFieldWithTrees(Long id, Long after, int limit, Integer minAge, Integer maxAge);
+
+    /**
+     * Checks the field and age band up front, so a bad request fails before a stream is opened.
+     */
+    void validateTreeStream(Long id, Integer minAge, Integer maxAge);
+
+    void streamFieldTrees(Long id, Integer minAge, Integer maxAge, Consumer<TreeInFieldResponse> consumer);
+    PageResponse<FieldResponse> getAllFields(Long after, int limit);
     List<FieldResponse> getFieldsByFarmId(Long farmId);
-    void deleteField(Long id);
+    DeletionResponse deleteField(Long id);
     List<FieldResponse> getFieldsByMaxArea(Double maxArea);
     long countFieldsInFarm(Long farmId);
     Double calculateTotalAreaInFarm(Long farmId);
+    FieldResponse recountTrees(Long id);
 }
\ No newline at end of file
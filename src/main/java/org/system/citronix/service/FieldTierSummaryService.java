@@ -0,0 +1,15 @@
+package org.system.citronix.service;
+
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface FieldTierSummaryService {
+    void recordPlanted(Long fieldId, Collection<LocalDate> plantDates);
+    void recordRemoved(Long fieldId, Collection<LocalDate> plantDates);
+    long rollOverTiers();
+    void rebuild();
+    Map<Long, Map<ProductivityTierEnum, Long>> getTreesByFieldAndTier(Long farmId, LocalDate date);
+}
@@ -1,21 +1,30 @@
 package org.system.citronix.service;
 
+import org.system.citronix.dto.request.HarvestDetailBatchRequest;
 import org.system.citronix.dto.request.HarvestDetailRequest;
+import org.system.citronix.dto.response.HarvestDetailBatchResponse;
 import org.system.citronix.dto.response.HarvestDetailResponse;
+import org.system.citronix.dto.response.HarvestGenerationSummaryResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.enums.HarvestStrategyEnum;
 import org.system.citronix.enums.SeasonEnum;
 
 import java.util.List;
 
 public interface HarvestDetailService {
     HarvestDetailResponse createHarvestDetail(Long harvestId, HarvestDetailRequest request);
+    HarvestDetailBatchResponse createHarvestDetailsBatch(Long harvestId, HarvestDetailBatchRequest request);
     HarvestDetailResponse updateHarvestDetail(Long id, HarvestDetailRequest request);
     HarvestDetailResponse getHarvestDetailById(Long id);
-    List<HarvestDetailResponse> getAllHarvestDetails();
+    PageResponse<HarvestDetailResponse> getAllHarvestDetails(Long after, int limit);
     List<HarvestDetailResponse> getHarvestDetailsByHarvestId(Long harvestId);
     List<HarvestDetailResponse> getHarvestDetailsByTreeId(Long treeId);
     void deleteHarvestDetail(Long id);
     Double calculateTotalQuantityForHarvest(Long harvestId);
+    Double reconcileTotalQuantity(Long harvestId);
     boolean isTreeHarvestedInSeason(Long treeId, SeasonEnum season, int year);
     List<HarvestDetailResponse> createHarvestDetailsForField(Long harvestId, Long fieldId);
+    HarvestGenerationSummaryResponse summarizeHarvestDetailsForField(Long harvestId, Long fieldId);
     List<HarvestDetailResponse> createHarvestDetailsForFarm(Long harvestId, Long farmId);
+    HarvestGenerationSummaryResponse summarizeHarvestDetailsForFarm(Long harvestId, Long farmId, HarvestStrategyEnum strategy);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package org.system.citronix.service;
+
+import org.system.citronix.dto.response.HarvestJobResponse;
+
+public interface HarvestJobService {
+    HarvestJobResponse startFarmHarvestJob(Long harvestId, Long farmId, Integer chunkSize);
+    HarvestJobResponse getJobById(Long id);
+    HarvestJobResponse restartJob(Long id);
+}
@@ -1,7 +1,10 @@
 package org.system.citronix.service;
 
 import org.system.citronix.dto.request.HarvestRequest;
+import org.system.citronix.dto.response.HarvestPreviewResponse;
 import org.system.citronix.dto.response.HarvestResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.enums.HarvestPreviewSourceEnum;
 import org.system.citronix.enums.SeasonEnum;
 
 import java.time.LocalDate;
@@ -12,9 +15,10 @@ public interface HarvestService {
     HarvestResponse updateHarvest(Long id, HarvestRequest request);
     HarvestResponse getHarvestById(Long id);
     HarvestResponse getHarvestWithDetails(Long id);
-    List<HarvestResponse> getAllHarvests();
+    PageResponse<HarvestResponse> getAllHarvests(Long after, int limit);
     List<HarvestResponse> getHarvestsBySeason(SeasonEnum season);
     void deleteHarvest(Long id);
     List<HarvestResponse> getHarvestsByDateRange(LocalDate startDate, LocalDate endDate);
     Double calculateTotalQuantityBetweenDates(LocalDate startDate, LocalDate endDate);
+    HarvestPreviewResponse previewHarvest(Long farmId, LocalDate date, HarvestPreviewSourceEnum source);
 }
\ No newline at end of file
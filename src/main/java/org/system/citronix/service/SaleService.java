@@ -1,6 +1,7 @@
 package org.system.citronix.service;
 
 import org.system.citronix.dto.request.SaleRequest;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.dto.response.SaleResponse;
 import org.system.citronix.enums.SeasonEnum;
 
@@ -11,7 +12,7 @@ public interface SaleService {
     SaleResponse createSale(SaleRequest request);
     SaleResponse updateSale(Long id, SaleRequest request);
     SaleResponse getSaleById(Long id);
-    List<SaleResponse> getAllSales();
+    PageResponse<SaleResponse> getAllSales(Long after, int limit);
     List<SaleResponse> getSalesByHarvestId(Long harvestId);
     List<SaleResponse> getSalesByDateRange(LocalDate startDate, LocalDate endDate);
     List<SaleResponse> getSalesByCustomer(String customer);
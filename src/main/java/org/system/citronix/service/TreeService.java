@@ -1,21 +1,29 @@
 package org.system.citronix.service;
 
+import org.system.citronix.dto.request.TreeBatchRequest;
 import org.system.citronix.dto.request.TreeRequest;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeAgeHistogramResponse;
+import org.system.citronix.dto.response.TreeBatchResponse;
 import org.system.citronix.dto.response.TreeResponse;
+import org.system.citronix.enums.ProductivityTierEnum;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface TreeService {
     TreeResponse plantTree(TreeRequest request);
+    TreeBatchResponse plantTrees(TreeBatchRequest request);
     TreeResponse updateTree(Long id, TreeRequest request);
     TreeResponse getTreeById(Long id);
-    List<TreeResponse> getAllTrees();
+    PageResponse<TreeResponse> getAllTrees(Long after, int limit);
     List<TreeResponse> getTreesByFieldId(Long fieldId);
     void deleteTree(Long id);
     List<TreeResponse> getTreesByPlantingPeriod(LocalDate startDate, LocalDate endDate);
     List<TreeResponse> getTreesOlderThan(int age);
+    List<TreeResponse> getTreesByAgeBand(ProductivityTierEnum band);
     long countTreesInField(Long fieldId);
     double calculateTreeProductivity(Long id);
     long countTreesPlantedInPeriod(Long fieldId, LocalDate startDate, LocalDate endDate);
+    TreeAgeHistogramResponse getAgeHistogram(Long fieldId);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package org.system.citronix.service;
+
+import org.system.citronix.dto.response.FarmForecastResponse;
+
+public interface YieldForecastService {
+    FarmForecastResponse forecastFarmYield(Long farmId, int years);
+}
@@ -0,0 +1,115 @@
+package org.system.citronix.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.system.citronix.dto.response.FarmDashboardResponse;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.exception.ResourceNotFoundException;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.SaleRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTierCount;
+import org.system.citronix.service.FarmDashboardService;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the farm overview from five independent aggregate queries: the farm row, the field
+ * count, tree counts grouped by field and tier, the farm's harvested quantity this season and
+ * its share of this year's sales. The queries run concurrently, each in its own read-only
+ * repository transaction, so the figures are not taken from a single snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+public class FarmDashboardServiceImpl implements FarmDashboardService {
+    private final FarmRepository farmRepository;
+    private final FieldRepository fieldRepository;
+    private final TreeRepository treeRepository;
+    private final HarvestDetailRepository harvestDetailRepository;
+    private final SaleRepository saleRepository;
+    private final Clock clock;
+    @Qualifier("dashboardExecutor")
+    private final TaskExecutor dashboardExecutor;
+
+    @Override
+    public FarmDashboardResponse getDashboard(Long farmId) {
+        LocalDate today = LocalDate.now(clock);
+        SeasonEnum season = SeasonEnum.fromDate(today);
+
+        CompletableFuture<Optional<Farm>> farm = submit(() -> farmRepository.findById(farmId));
+        CompletableFuture<Long> fieldCount = submit(() -> fieldRepository.countFieldsByFarmId(farmId));
+        CompletableFuture<List<FieldTierCount>> tierCounts = submit(() -> treeRepository.countTreesByFieldAndTier(
+                farmId,
+                today,
+                ProductivityTierEnum.MATURE.plantedOnOrBefore(today),
+                ProductivityTierEnum.OLD.plantedOnOrBefore(today),
+                ProductivityTierEnum.RETIRED.plantedOnOrBefore(today)
+        ));
+        CompletableFuture<Double> harvested = submit(() ->
+                harvestDetailRepository.sumQuantityByFarmIdAndSeasonAndYear(farmId, season, today.getYear()));
+        CompletableFuture<Double> revenue = submit(() ->
+                saleRepository.calculateFarmRevenueBetweenDates(farmId, today.withDayOfYear(1), today));
+
+        Farm loaded = join(farm)
+                .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + farmId));
+        Map<ProductivityTierEnum, Long> treesByTier = sumTiers(join(tierCounts));
+
+        return FarmDashboardResponse.builder()
+                .farmId(loaded.getId())
+                .name(loaded.getName())
+                .date(today)
+                .area(loaded.getArea())
+                .allocatedArea(loaded.getAllocatedArea())
+                .leftArea(loaded.calculateLeftArea())
+                .fieldCount(join(fieldCount))
+                .totalTrees(treesByTier.values().stream().mapToLong(Long::longValue).sum())
+                .treesByTier(treesByTier)
+                .season(season)
+                .seasonHarvestedQuantity(join(harvested))
+                .yearToDateRevenue(join(revenue))
+                .build();
+    }
+
+    private Map<ProductivityTierEnum, Long> sumTiers(List<FieldTierCount> counts) {
+        Map<ProductivityTierEnum, Long> treesByTier = new EnumMap<>(ProductivityTierEnum.class);
+        for (ProductivityTierEnum tier : ProductivityTierEnum.values()) {
+            treesByTier.put(tier, 0L);
+        }
+        for (FieldTierCount count : counts) {
+            treesByTier.merge(ProductivityTierEnum.YOUNG, count.getYoungTrees(), Long::sum);
+            treesByTier.merge(ProductivityTierEnum.MATURE, count.getMatureTrees(), Long::sum);
+            treesByTier.merge(ProductivityTierEnum.OLD, count.getOldTrees(), Long::sum);
+            treesByTier.merge(ProductivityTierEnum.RETIRED, count.getRetiredTrees(), Long::sum);
+        }
+        return treesByTier;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, dashboardExecutor);
+    }
+
+    private static <T> T join(CompletableFuture<T> task) {
+        try {
+            return task.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package org.system.citronix.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.citronix.dto.request.FarmRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.dto.response.FarmSearchResultResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.entity.Farm;
+import org.system.citronix.event.FarmDeletedEvent;
+import org.system.citronix.event.FarmSavedEvent;
+import org.system.citronix.event.FieldsDeletedEvent;
+import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
-import org.system.citronix.exception.ValidationException;
 import org.system.citronix.mapper.FarmMapper;
 import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.registry.FarmSearchIndex;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
 import org.system.citronix.service.FarmService;
+import org.system.citronix.util.PageUtil;
 import org.system.citronix.util.ValidationUtil;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,24 +38,44 @@ import java.util.stream.Collectors;
 public class FarmServiceImpl implements FarmService {
     private final FarmRepository farmRepository;
     private final FarmMapper farmMapper;
+    private final FieldRepository fieldRepository;
+    private final TreeRepository treeRepository;
+    private final HarvestDetailRepository harvestDetailRepository;
+    private final HarvestRepository harvestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FarmSearchIndex farmSearchIndex;
 
+    /**
+     * Name uniqueness is enforced by the {@code uk_farms_name} constraint rather than a lookup, so
+     * concurrent creates cannot both succeed. The violation is reported as a validation error by
+     * {@link org.system.citronix.exception.GlobalExceptionHandler}.
+     */
     @Override
     public FarmResponse createFarm(FarmRequest request) {
         ValidationUtil.validateFarmArea(request.getArea());
-        if (!isFarmNameUnique(request.getName())){
-            throw new ValidationException("The name already exists");
-        }
-        Farm farm = farmMapper.toEntity(request);
-        return farmMapper.toResponse(farmRepository.save(farm));
+        Farm farm = farmRepository.saveAndFlush(farmMapper.toEntity(request));
+        publishSaved(farm);
+        return farmMapper.toResponse(farm);
     }
 
     @Override
     public FarmResponse updateFarm(Long id, FarmRequest request) {
         Farm farm = farmRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + id));
+        if (farmRepository.resizeArea(id, request.getArea()) == 0) {
+            throw new BusinessException(String.format(
+                    "Farm area cannot be smaller than the %.2f hectares already allocated to its fields",
+                    farm.getAllocatedArea()));
+        }
 
         farmMapper.updateFarmFromRequest(request, farm);
-        return farmMapper.toResponse(farmRepository.save(farm));
+        Farm saved = farmRepository.saveAndFlush(farm);
+        publishSaved(saved);
+        return farmMapper.toResponse(saved);
+    }
+
+    private void publishSaved(Farm farm) {
+        eventPublisher.publishEvent(new FarmSavedEvent(farm.getId(), farm.getName(), farm.getLocation(), farm.getArea()));
     }
 
     @Override
@@ -62,28 +97,47 @@ public class FarmServiceImpl implements FarmService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public double calculateLeftAreaInFarm(Long id) {
-        Farm farm = farmRepository.findByIdWithFields(id);
-        if (farm == null) {
-            throw new ResourceNotFoundException("Farm not found with id: " + id);
-        }
-        return farm.calculateLeftArea();
+        return farmRepository.findById(id)
+                .map(Farm::calculateLeftArea)
+                .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FarmResponse> getAllFarms() {
-        return farmRepository.findAll().stream()
-                .map(farmMapper::toResponse)
-                .collect(Collectors.toList());
+    public PageResponse<FarmResponse> getAllFarms(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        return PageUtil.toPage(
+                farmRepository.findPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                Farm::getId,
+                farmMapper::toResponse
+        );
     }
 
+    /**
+     * Deletes the farm with set-based statements in dependency order instead of cascading
+     * through loaded entities, so the cost does not grow with the persistence context.
+     */
     @Override
-    public void deleteFarm(Long id) {
+    public DeletionResponse deleteFarm(Long id) {
         if (!farmRepository.existsById(id)) {
             throw new ResourceNotFoundException("Farm not found with id: " + id);
         }
-        farmRepository.deleteById(id);
+        List<Long> fieldIds = fieldRepository.findIdsByFarmId(id);
+        harvestRepository.subtractDetailsByFarmId(id);
+
+        DeletionResponse deleted = DeletionResponse.builder()
+                .harvestDetails(harvestDetailRepository.deleteByFarmId(id))
+                .trees(treeRepository.deleteByFarmId(id))
+                .fields(fieldRepository.deleteByFarmId(id))
+                .farms(farmRepository.deleteRowById(id))
+                .build();
+
+        eventPublisher.publishEvent(new FieldsDeletedEvent(fieldIds));
+        eventPublisher.publishEvent(new FarmDeletedEvent(id));
+        return deleted;
     }
 
     @Override
@@ -107,4 +161,34 @@ public class FarmServiceImpl implements FarmService {
     public boolean isFarmNameUnique(String name) {
         return !farmRepository.existsByName(name);
     }
-}
\ No newline at end of file
+
+    @Override
+    public FarmResponse recountAllocatedArea(Long id) {
+        if (farmRepository.recalculateAllocatedArea(id) == 0) {
+            throw new ResourceNotFoundException("Farm not found with id: " + id);
+        }
+        return farmRepository.findById(id)
+                .map(farmMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Farm not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<FarmSearchResultResponse> searchFarms(String query, int offset, int limit) {
+        ValidationUtil.validateSearchQuery(query);
+        ValidationUtil.validatePageOffset(offset);
+        ValidationUtil.validatePageLimit(limit);
+
+        if (!farmSearchIndex.isReady()) {
+            // Prefix matches only, until the index has loaded
+            List<Farm> farms = farmRepository.findByNameOrLocationPrefix(
+                    query.trim().toLowerCase(Locale.ROOT), PageRequest.of(0, offset + limit + 1));
+            return PageUtil.toOffsetPage(
+                    farms.subList(Math.min(offset, farms.size()), farms.size()), offset, limit, farmMapper::toSearchResult);
+        }
+
+        List<FarmSearchIndex.Match> matches = farmSearchIndex.search(query);
+        return PageUtil.toOffsetPage(
+                matches.subList(Math.min(offset, matches.size()), matches.size()), offset, limit, farmMapper::toSearchResult);
+    }
+}
@@ -1,22 +1,39 @@
 package org.system.citronix.service.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.citronix.dto.request.FieldRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FieldResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeInFieldResponse;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
-import org.system.citronix.exception.BusinessException;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.event.FieldsDeletedEvent;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.FieldMapper;
+import org.system.citronix.mapper.TreeMapper;
 import org.system.citronix.repository.FarmRepository;
 import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldSummary;
 import org.system.citronix.service.FieldService;
+import org.system.citronix.util.PageUtil;
+import org.system.citronix.util.TreeAgeTable;
 import org.system.citronix.util.ValidationUtil;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +42,13 @@ public class FieldServiceImpl implements FieldService {
     private final FieldRepository fieldRepository;
     private final FarmRepository farmRepository;
     private final FieldMapper fieldMapper;
+    private final TreeMapper treeMapper;
+    private final TreeRepository treeRepository;
+    private final HarvestDetailRepository harvestDetailRepository;
+    private final HarvestRepository harvestRepository;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Override
     public FieldResponse createField(FieldRequest request) {
@@ -33,7 +57,8 @@ public class FieldServiceImpl implements FieldService {
 
         ValidationUtil.validateFieldArea(request.getArea());
         ValidationUtil.validateFieldToFarmRatio(request.getArea(), farm.getArea());
-        ValidationUtil.validateFarmFields(farm, request.getArea());
+        allocateFarmArea(farm, request.getArea());
+        ValidationUtil.validateFarmFields(fieldRepository.countFieldsByFarmId(farm.getId()));
 
         Field field = fieldMapper.toEntity(request);
         field.setFarm(farm);
@@ -54,26 +79,20 @@ public class FieldServiceImpl implements FieldService {
         ValidationUtil.validateFieldArea(request.getArea());
         ValidationUtil.validateFieldToFarmRatio(request.getArea(), targetFarm.getArea());
 
-        // Calculate total area excluding current field
-        double totalAreaExcludingCurrentField = targetFarm.getFields().stream()
-                .filter(f -> !f.getId().equals(id))
-                .mapToDouble(Field::getArea)
-                .sum();
-
-        // Check if new area would exceed the farm's capacity
-        if (totalAreaExcludingCurrentField + request.getArea() > targetFarm.getArea()) {
-            throw new BusinessException(String.format(
-                    "Updated field area (%.1f) would exceed farm's capacity. Available area: %.1f",
-                    request.getArea(),
-                    targetFarm.getArea() - totalAreaExcludingCurrentField
-            ));
+        // Move the field's area in the farm ledgers
+        Long currentFarmId = field.getFarm().getId();
+        if (currentFarmId.equals(targetFarm.getId())) {
+            allocateFarmArea(targetFarm, request.getArea() - field.getArea());
+        } else {
+            allocateFarmArea(targetFarm, request.getArea());
+            ValidationUtil.validateFarmFields(fieldRepository.countFieldsByFarmId(targetFarm.getId()));
+            farmRepository.releaseArea(currentFarmId, field.getArea());
         }
 
         // Update the field
         fieldMapper.updateFieldFromRequest(request, field);
         field.setFarm(targetFarm);
 
-
         return fieldMapper.toResponse(fieldRepository.save(field));
     }
 
@@ -87,42 +106,109 @@ public class FieldServiceImpl implements FieldService {
 
     @Override
     @Transactional(readOnly = true)
-    public FieldResponse getFieldWithTrees(Long id) {
-        Field field = fieldRepository.findByIdWithTrees(id);
-        if (field == null) {
+    public FieldResponse getFieldWithTrees(Long id, Long after, int limit, Integer minAge, Integer maxAge) {
+        ValidationUtil.validatePageLimit(limit);
+        ValidationUtil.validateAgeBand(minAge, maxAge);
+        Field field = fieldRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Field not found with id: " + id));
+
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
+        PageResponse<TreeInFieldResponse> trees = PageUtil.toPage(
+                treeRepository.findFieldPageAfter(
+                        id,
+                        PageUtil.cursor(after),
+                        plantedAfter(ageTable, maxAge),
+                        plantedOnOrBefore(ageTable, minAge),
+                        PageUtil.fetchLimit(limit)
+                ),
+                limit,
+                Tree::getId,
+                tree -> treeMapper.toFieldResponse(tree, ageTable)
+        );
+
+        return fieldMapper.toResponse(field).toBuilder()
+                .trees(trees.getItems())
+                .treesNext(trees.getNext())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateTreeStream(Long id, Integer minAge, Integer maxAge) {
+        ValidationUtil.validateAgeBand(minAge, maxAge);
+        if (!fieldRepository.existsById(id)) {
             throw new ResourceNotFoundException("Field not found with id: " + id);
         }
-        return fieldMapper.toResponseWithTrees(field);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FieldResponse> getAllFields() {
-        return fieldRepository.findAll().stream()
-                .map(fieldMapper::toResponse)
-                .collect(Collectors.toList());
+    public void streamFieldTrees(Long id, Integer minAge, Integer maxAge, Consumer<TreeInFieldResponse> consumer) {
+        ValidationUtil.validateAgeBand(minAge, maxAge);
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
+        try (Stream<Tree> trees = treeRepository.streamByFieldId(
+                id, plantedAfter(ageTable, maxAge), plantedOnOrBefore(ageTable, minAge))) {
+            trees.forEach(tree -> {
+                consumer.accept(treeMapper.toFieldResponse(tree, ageTable));
+                // Keep the persistence context from growing with the stream
+                entityManager.detach(tree);
+            });
+        }
+    }
+
+    // A tree is at least minAge years old when planted on or before the minAge birthday cutoff
+    private static LocalDate plantedOnOrBefore(TreeAgeTable ageTable, Integer minAge) {
+        return minAge != null ? ageTable.getReferenceDate().minusYears(minAge) : null;
+    }
+
+    // and at most maxAge years old when planted after the cutoff for maxAge + 1
+    private static LocalDate plantedAfter(TreeAgeTable ageTable, Integer maxAge) {
+        return maxAge != null ? ageTable.getReferenceDate().minusYears(maxAge + 1L) : null;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<FieldResponse> getAllFields(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        return PageUtil.toPage(
+                fieldRepository.findSummaryPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                FieldSummary::getId,
+                fieldMapper::toResponse
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FieldResponse> getFieldsByFarmId(Long farmId) {
-        return fieldRepository.findByFarmId(farmId).stream()
+        return fieldRepository.findSummariesByFarmId(farmId).stream()
                 .map(fieldMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public void deleteField(Long id) {
-        if (!fieldRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Field not found with id: " + id);
-        }
-        fieldRepository.deleteById(id);
+    public DeletionResponse deleteField(Long id) {
+        Field field = fieldRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Field not found with id: " + id));
+        Long farmId = field.getFarm().getId();
+        harvestRepository.subtractDetailsByFieldId(id);
+
+        // Set-based deletes in dependency order, without loading trees or harvest details
+        DeletionResponse deleted = DeletionResponse.builder()
+                .harvestDetails(harvestDetailRepository.deleteByFieldId(id))
+                .trees(treeRepository.deleteByFieldId(id))
+                .fields(fieldRepository.deleteRowById(id))
+                .build();
+
+        farmRepository.releaseArea(farmId, field.getArea());
+        eventPublisher.publishEvent(new FieldsDeletedEvent(List.of(id)));
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FieldResponse> getFieldsByMaxArea(Double maxArea) {
-        return fieldRepository.findByAreaLessThanEqual(maxArea).stream()
+        return fieldRepository.findSummariesByMaxArea(maxArea).stream()
                 .map(fieldMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -138,4 +224,23 @@ public class FieldServiceImpl implements FieldService {
     public Double calculateTotalAreaInFarm(Long farmId) {
         return fieldRepository.sumAreaByFarmId(farmId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Atomically adds to the farm's allocated area, so concurrent field edits cannot both pass
+     * the capacity check. The guarded update also holds the farm row until commit, which keeps
+     * the field count check that follows it consistent.
+     */
+    private void allocateFarmArea(Farm farm, double delta) {
+        ValidationUtil.validateFarmAreaAllocated(farmRepository.allocateArea(farm.getId(), delta) > 0, farm);
+    }
+
+    @Override
+    public FieldResponse recountTrees(Long id) {
+        if (fieldRepository.recalculateTreeCount(id) == 0) {
+            throw new ResourceNotFoundException("Field not found with id: " + id);
+        }
+        return fieldRepository.findById(id)
+                .map(fieldMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Field not found with id: " + id));
+    }
+}
@@ -0,0 +1,188 @@
+package org.system.citronix.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.FieldTierSummary;
+import org.system.citronix.entity.SummaryCheckpoint;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.exception.BusinessException;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.FieldTierSummaryRepository;
+import org.system.citronix.repository.SummaryCheckpointRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTierCount;
+import org.system.citronix.repository.projection.FieldTreeCount;
+import org.system.citronix.service.FieldTierSummaryService;
+import org.system.citronix.util.TreeAgeTable;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code field_tier_summary} current. Plantings and deletions adjust the tier counts at the
+ * checkpoint date; the daily rollover only looks at trees whose planting anniversary crossed a tier
+ * boundary since the checkpoint, then moves the checkpoint to today.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FieldTierSummaryServiceImpl implements FieldTierSummaryService {
+    static final String CHECKPOINT_NAME = "field_tier_summary";
+    private static final ProductivityTierEnum[] TIERS = ProductivityTierEnum.values();
+
+    private final FieldTierSummaryRepository fieldTierSummaryRepository;
+    private final SummaryCheckpointRepository summaryCheckpointRepository;
+    private final TreeRepository treeRepository;
+    private final FieldRepository fieldRepository;
+    private final Clock clock;
+
+    @Override
+    public void recordPlanted(Long fieldId, Collection<LocalDate> plantDates) {
+        adjust(fieldId, plantDates, 1);
+    }
+
+    @Override
+    public void recordRemoved(Long fieldId, Collection<LocalDate> plantDates) {
+        adjust(fieldId, plantDates, -1);
+    }
+
+    private void adjust(Long fieldId, Collection<LocalDate> plantDates, long sign) {
+        if (plantDates.isEmpty()) {
+            return;
+        }
+        // Until the first rebuild there is no summary to maintain
+        summaryCheckpointRepository.findByNameForShare(CHECKPOINT_NAME).ifPresent(checkpoint -> {
+            TreeAgeTable ageTable = TreeAgeTable.of(checkpoint.getAsOf());
+            Map<ProductivityTierEnum, Long> treesByTier = plantDates.stream()
+                    .collect(Collectors.groupingBy(
+                            plantDate -> ProductivityTierEnum.forAge(ageTable.ageOf(plantDate)),
+                            () -> new EnumMap<>(ProductivityTierEnum.class),
+                            Collectors.counting()));
+            treesByTier.forEach((tier, trees) -> adjustTier(fieldId, tier, sign * trees));
+        });
+    }
+
+    private void adjustTier(Long fieldId, ProductivityTierEnum tier, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (fieldTierSummaryRepository.adjustTreeCount(fieldId, tier, delta, tier.getProductivity()) == 0) {
+            // First trees of the tier: create the row without racing other planters, then update it
+            fieldTierSummaryRepository.insertEmptyRowIfMissing(fieldId, tier.name());
+            fieldTierSummaryRepository.adjustTreeCount(fieldId, tier, delta, tier.getProductivity());
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${citronix.tier-summary.rollover-cron:0 5 0 * * *}")
+    public long rollOverTiers() {
+        LocalDate today = LocalDate.now(clock);
+        Optional<SummaryCheckpoint> existing = summaryCheckpointRepository.findByNameForUpdate(CHECKPOINT_NAME);
+        if (existing.isEmpty()) {
+            rebuildAsOf(today);
+            return 0;
+        }
+
+        SummaryCheckpoint checkpoint = existing.get();
+        LocalDate asOf = checkpoint.getAsOf();
+        if (!today.isAfter(asOf)) {
+            return 0;
+        }
+
+        // A tree enters a tier when its plant date falls on or before the tier's cutoff
+        long transitions = 0;
+        for (int tier = 1; tier < TIERS.length; tier++) {
+            List<FieldTreeCount> crossed = treeRepository.countTreesByFieldPlantedBetween(
+                    TIERS[tier].plantedOnOrBefore(asOf),
+                    TIERS[tier].plantedOnOrBefore(today)
+            );
+            for (FieldTreeCount count : crossed) {
+                adjustTier(count.getFieldId(), TIERS[tier - 1], -count.getTrees());
+                adjustTier(count.getFieldId(), TIERS[tier], count.getTrees());
+                transitions += count.getTrees();
+            }
+        }
+
+        checkpoint.setAsOf(today);
+        summaryCheckpointRepository.save(checkpoint);
+        log.info("Rolled field tier summary from {} to {}: {} tier transitions", asOf, today, transitions);
+        return transitions;
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildAsOf(LocalDate.now(clock));
+    }
+
+    private void rebuildAsOf(LocalDate date) {
+        SummaryCheckpoint checkpoint = summaryCheckpointRepository.findByNameForUpdate(CHECKPOINT_NAME)
+                .orElseGet(() -> SummaryCheckpoint.builder().name(CHECKPOINT_NAME).build());
+
+        fieldTierSummaryRepository.deleteAllRows();
+
+        List<FieldTierSummary> rows = new ArrayList<>();
+        for (FieldTierCount count : treeRepository.countAllTreesByFieldAndTier(
+                ProductivityTierEnum.MATURE.plantedOnOrBefore(date),
+                ProductivityTierEnum.OLD.plantedOnOrBefore(date),
+                ProductivityTierEnum.RETIRED.plantedOnOrBefore(date))) {
+            Field field = fieldRepository.getReferenceById(count.getFieldId());
+            rows.add(summaryRow(field, ProductivityTierEnum.YOUNG, count.getYoungTrees()));
+            rows.add(summaryRow(field, ProductivityTierEnum.MATURE, count.getMatureTrees()));
+            rows.add(summaryRow(field, ProductivityTierEnum.OLD, count.getOldTrees()));
+            rows.add(summaryRow(field, ProductivityTierEnum.RETIRED, count.getRetiredTrees()));
+        }
+        fieldTierSummaryRepository.saveAll(rows);
+
+        checkpoint.setAsOf(date);
+        summaryCheckpointRepository.save(checkpoint);
+        log.info("Rebuilt field tier summary as of {} for {} fields", date, rows.size() / TIERS.length);
+    }
+
+    private FieldTierSummary summaryRow(Field field, ProductivityTierEnum tier, long trees) {
+        return FieldTierSummary.builder()
+                .field(field)
+                .tier(tier)
+                .treeCount(trees)
+                .expectedQuantity(trees * tier.getProductivity())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<ProductivityTierEnum, Long>> getTreesByFieldAndTier(Long farmId, LocalDate date) {
+        SummaryCheckpoint checkpoint = summaryCheckpointRepository.findById(CHECKPOINT_NAME)
+                .orElseThrow(() -> new BusinessException("Field tier summary has not been built yet"));
+        if (!checkpoint.getAsOf().equals(date)) {
+            throw new BusinessException(String.format(
+                    "Field tier summary is as of %s and cannot be used for %s", checkpoint.getAsOf(), date));
+        }
+
+        Map<Long, Map<ProductivityTierEnum, Long>> treesByField = new TreeMap<>();
+        for (FieldTierSummary summary : fieldTierSummaryRepository.findByFarmId(farmId)) {
+            treesByField.computeIfAbsent(summary.getField().getId(), fieldId -> emptyTierCounts())
+                    .put(summary.getTier(), summary.getTreeCount());
+        }
+        return treesByField;
+    }
+
+    private Map<ProductivityTierEnum, Long> emptyTierCounts() {
+        Map<ProductivityTierEnum, Long> counts = new EnumMap<>(ProductivityTierEnum.class);
+        for (ProductivityTierEnum tier : TIERS) {
+            counts.put(tier, 0L);
+        }
+        return counts;
+    }
+}
@@ -1,23 +1,48 @@
 package org.system.citronix.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.citronix.dto.request.HarvestDetailBatchRequest;
 import org.system.citronix.dto.request.HarvestDetailRequest;
+import org.system.citronix.dto.response.HarvestDetailBatchResponse;
 import org.system.citronix.dto.response.HarvestDetailResponse;
+import org.system.citronix.dto.response.HarvestGenerationSummaryResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeHarvestResult;
 import org.system.citronix.entity.*;
+import org.system.citronix.enums.HarvestSkipReasonEnum;
+import org.system.citronix.enums.HarvestStrategyEnum;
+import org.system.citronix.enums.ProductivityTierEnum;
 import org.system.citronix.enums.SeasonEnum;
 import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.HarvestDetailMapper;
 import org.system.citronix.repository.*;
 import org.system.citronix.service.HarvestDetailService;
+import org.system.citronix.util.PageUtil;
 import org.system.citronix.util.ValidationUtil;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.system.citronix.constant.CitronixConstants.SQL_HARVEST_STRATEGY_THRESHOLD;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -28,6 +53,9 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
     private final HarvestDetailMapper harvestDetailMapper;
     private final FieldRepository fieldRepository;
     private final FarmRepository farmRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("harvestGenerationExecutor")
+    private final TaskExecutor harvestGenerationExecutor;
 
     @Override
     public HarvestDetailResponse createHarvestDetail(Long harvestId, HarvestDetailRequest request) {
@@ -54,16 +82,79 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
                 .quantity(quantity)
                 .build();
 
-        return harvestDetailMapper.toResponse(
-                updateHarvestDetailAndTotal(detail)
-        );
+        HarvestDetail saved = harvestDetailRepository.save(detail);
+        harvestRepository.incrementTotalQuantity(harvestId, quantity);
+
+        return harvestDetailMapper.toResponse(saved);
     }
 
-    private HarvestDetail updateHarvestDetailAndTotal(HarvestDetail detail) {
-        HarvestDetail saved = harvestDetailRepository.save(detail);
-        detail.getHarvest().calculateTotalQuantity();
-        harvestRepository.save(detail.getHarvest());
-        return saved;
+    @Override
+    public HarvestDetailBatchResponse createHarvestDetailsBatch(Long harvestId, HarvestDetailBatchRequest request) {
+        Harvest harvest = harvestRepository.findById(harvestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
+
+        Map<Long, Tree> treesById = treeRepository.findAllById(new HashSet<>(request.getTreeIds())).stream()
+                .collect(Collectors.toMap(Tree::getId, Function.identity()));
+
+        Set<Long> harvestedTreeIds = treesById.isEmpty()
+                ? Set.of()
+                : harvestDetailRepository.findHarvestedTreeIdsAmong(
+                        treesById.keySet(),
+                        harvest.getSeason(),
+                        harvest.getDate().getYear()
+                );
+
+        List<TreeHarvestResult> results = new ArrayList<>(request.getTreeIds().size());
+        List<HarvestDetail> details = new ArrayList<>();
+        Set<Long> seenTreeIds = new HashSet<>();
+
+        for (Long treeId : request.getTreeIds()) {
+            Tree tree = treesById.get(treeId);
+            HarvestSkipReasonEnum reason = null;
+            if (!seenTreeIds.add(treeId)) {
+                reason = HarvestSkipReasonEnum.DUPLICATE_IN_REQUEST;
+            } else if (tree == null) {
+                reason = HarvestSkipReasonEnum.TREE_NOT_FOUND;
+            } else if (harvestedTreeIds.contains(treeId)) {
+                reason = HarvestSkipReasonEnum.ALREADY_HARVESTED;
+            }
+
+            if (reason != null) {
+                results.add(TreeHarvestResult.builder()
+                        .treeId(treeId)
+                        .accepted(false)
+                        .reason(reason)
+                        .build());
+                continue;
+            }
+
+            double quantity = tree.getProductivity(harvest.getDate());
+            details.add(HarvestDetail.builder()
+                    .harvest(harvest)
+                    .tree(tree)
+                    .quantity(quantity)
+                    .build());
+            results.add(TreeHarvestResult.builder()
+                    .treeId(treeId)
+                    .accepted(true)
+                    .quantity(quantity)
+                    .build());
+        }
+
+        double addedQuantity = sumQuantities(details);
+        if (!details.isEmpty()) {
+            harvestDetailRepository.saveAll(details);
+            harvestRepository.incrementTotalQuantity(harvestId, addedQuantity);
+        }
+
+        return HarvestDetailBatchResponse.builder()
+                .harvestId(harvestId)
+                .requested(request.getTreeIds().size())
+                .accepted(details.size())
+                .rejected(request.getTreeIds().size() - details.size())
+                .totalQuantityAdded(addedQuantity)
+                .results(results)
+                .build();
     }
 
     @Override
@@ -84,12 +175,17 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
                 )
         );
 
+        double previousQuantity = harvestDetail.getQuantity();
         harvestDetail.setTree(newTree);
         harvestDetail.setQuantity(newTree.getProductivity(harvestDetail.getHarvest().getDate()));
 
-        return harvestDetailMapper.toResponse(
-                updateHarvestDetailAndTotal(harvestDetail)
+        HarvestDetail saved = harvestDetailRepository.save(harvestDetail);
+        harvestRepository.incrementTotalQuantity(
+                harvestDetail.getHarvest().getId(),
+                saved.getQuantity() - previousQuantity
         );
+
+        return harvestDetailMapper.toResponse(saved);
     }
 
     @Override
@@ -102,10 +198,14 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<HarvestDetailResponse> getAllHarvestDetails() {
-        return harvestDetailRepository.findAll().stream()
-                .map(harvestDetailMapper::toResponse)
-                .collect(Collectors.toList());
+    public PageResponse<HarvestDetailResponse> getAllHarvestDetails(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        return PageUtil.toPage(
+                harvestDetailRepository.findPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                HarvestDetail::getId,
+                harvestDetailMapper::toResponse
+        );
     }
 
     @Override
@@ -131,7 +231,7 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
         Long harvestId = harvestDetail.getHarvest().getId();
 
         harvestDetailRepository.deleteById(id);
-        updateHarvestTotalQuantity(harvestId);
+        harvestRepository.incrementTotalQuantity(harvestId, -harvestDetail.getQuantity());
     }
 
     @Override
@@ -151,6 +251,54 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
     @Override
     @Transactional
     public List<HarvestDetailResponse> createHarvestDetailsForField(Long harvestId, Long fieldId) {
+        return generateForField(harvestId, fieldId).details().stream()
+                .map(harvestDetailMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public HarvestGenerationSummaryResponse summarizeHarvestDetailsForField(Long harvestId, Long fieldId) {
+        long startedAt = System.nanoTime();
+        return toSummary(harvestId, HarvestStrategyEnum.JAVA, generateForField(harvestId, fieldId), startedAt);
+    }
+
+    @Override
+    @Transactional
+    public List<HarvestDetailResponse> createHarvestDetailsForFarm(Long harvestId, Long farmId) {
+        return generateForFarm(harvestId, farmId).details().stream()
+                .map(harvestDetailMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs without a surrounding transaction so the PARALLEL strategy can commit one transaction
+     * per field; the JAVA and SQL strategies run in a single transaction of their own.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public HarvestGenerationSummaryResponse summarizeHarvestDetailsForFarm(Long harvestId, Long farmId,
+                                                                           HarvestStrategyEnum strategy) {
+        long startedAt = System.nanoTime();
+        HarvestStrategyEnum resolved = resolveStrategy(farmId, strategy);
+        GenerationResult result = switch (resolved) {
+            case PARALLEL -> generateForFarmInParallel(harvestId, farmId);
+            case SQL -> transactionTemplate.execute(status -> generateForFarmInSql(harvestId, farmId));
+            default -> transactionTemplate.execute(status -> generateForFarm(harvestId, farmId));
+        };
+        return toSummary(harvestId, resolved, result, startedAt);
+    }
+
+    private HarvestStrategyEnum resolveStrategy(Long farmId, HarvestStrategyEnum strategy) {
+        if (strategy != null && strategy != HarvestStrategyEnum.AUTO) {
+            return strategy;
+        }
+        return treeRepository.countTreesByFarmId(farmId) >= SQL_HARVEST_STRATEGY_THRESHOLD
+                ? HarvestStrategyEnum.SQL
+                : HarvestStrategyEnum.JAVA;
+    }
+
+    private GenerationResult generateForField(Long harvestId, Long fieldId) {
         Harvest harvest = harvestRepository.findById(harvestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
 
@@ -163,58 +311,153 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
             throw new BusinessException("No trees found in field " + fieldId);
         }
 
-        List<Tree> eligibleTrees = field.getTrees().stream()
-                .filter(tree -> !harvestDetailRepository.existsByTreeIdAndHarvestSeasonAndYear(
-                        tree.getId(),
-                        harvest.getSeason(),
-                        harvest.getDate().getYear()
-                ))
-                .filter(tree -> tree.getAge(LocalDate.now())>3)
-                .toList();
+        Set<Long> harvestedTreeIds = harvestDetailRepository.findHarvestedTreeIdsByFieldId(
+                fieldId,
+                harvest.getSeason(),
+                harvest.getDate().getYear()
+        );
+
+        return generate(harvest, field.getTrees(), harvestedTreeIds, true, "field " + fieldId);
+    }
 
-        if (eligibleTrees.isEmpty()) {
+    private GenerationResult generateForFarm(Long harvestId, Long farmId) {
+        Harvest harvest = harvestRepository.findById(harvestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
+        requireFarmWithFields(farmId);
+
+        List<Tree> allTrees = treeRepository.findAllTreesByFarmId(farmId);
+
+        Set<Long> harvestedTreeIds = harvestDetailRepository.findHarvestedTreeIdsByFarmId(
+                farmId,
+                harvest.getSeason(),
+                harvest.getDate().getYear()
+        );
+
+        return generate(harvest, allTrees, harvestedTreeIds, false, "farm " + farmId);
+    }
+
+    /**
+     * Same result as {@link #generateForFarm} but the details are created by a single
+     * INSERT ... SELECT, so no tree is loaded into the persistence context.
+     */
+    private GenerationResult generateForFarmInSql(Long harvestId, Long farmId) {
+        Harvest harvest = harvestRepository.findById(harvestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
+        requireFarmWithFields(farmId);
+
+        LocalDate date = harvest.getDate();
+        LocalDate yearStart = date.withDayOfYear(1);
+        int evaluatedTrees = Math.toIntExact(treeRepository.countTreesByFarmId(farmId));
+        double quantityBefore = orZero(harvestDetailRepository.sumQuantityByHarvestIdAndFarmId(harvestId, farmId));
+
+        int created = harvestDetailRepository.insertHarvestDetailsForFarm(
+                harvestId,
+                farmId,
+                harvest.getSeason().name(),
+                yearStart,
+                yearStart.plusYears(1),
+                ProductivityTierEnum.MATURE.plantedOnOrBefore(date),
+                ProductivityTierEnum.OLD.plantedOnOrBefore(date),
+                ProductivityTierEnum.RETIRED.plantedOnOrBefore(date)
+        );
+
+        if (created == 0) {
             throw new BusinessException(
-                    String.format("All trees in field %d have already been harvested in %s %d",
-                            fieldId,
+                    String.format("All trees in farm %d have already been harvested in %s %d",
+                            farmId,
                             harvest.getSeason(),
-                            harvest.getDate().getYear())
+                            date.getYear())
             );
         }
 
-        List<HarvestDetail> details = eligibleTrees.stream()
-                .map(tree -> HarvestDetail.builder()
-                        .harvest(harvest)
-                        .tree(tree)
-                        .quantity(tree.getProductivity(harvest.getDate()))
-                        .build())
-                .collect(Collectors.toList());
+        double addedQuantity = orZero(harvestDetailRepository.sumQuantityByHarvestIdAndFarmId(harvestId, farmId))
+                - quantityBefore;
+        harvestRepository.incrementTotalQuantity(harvestId, addedQuantity);
 
-        List<HarvestDetail> savedDetails = harvestDetailRepository.saveAll(details);
+        Map<HarvestSkipReasonEnum, Long> skipped = new EnumMap<>(HarvestSkipReasonEnum.class);
+        if (evaluatedTrees > created) {
+            skipped.put(HarvestSkipReasonEnum.ALREADY_HARVESTED, (long) (evaluatedTrees - created));
+        }
+        return new GenerationResult(List.of(), evaluatedTrees, created, addedQuantity, skipped, Map.of());
+    }
 
-        // Update harvest total quantity
-        harvest.calculateTotalQuantity();
-        harvestRepository.save(harvest);
+    /**
+     * Fans out one task per field of the farm. Each task saves its field's details in its own
+     * transaction and the harvest total is incremented once with the sum of all committed fields.
+     * When some fields fail after others committed, the result lists the failed fields instead of
+     * throwing, so the client learns what was written; a failure with nothing committed is rethrown.
+     */
+    private GenerationResult generateForFarmInParallel(Long harvestId, Long farmId) {
+        Harvest harvest = transactionTemplate.execute(status -> harvestRepository.findById(harvestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found")));
+        List<Long> fieldIds = transactionTemplate.execute(status -> requireFarmWithFields(farmId).getFields().stream()
+                .map(Field::getId)
+                .toList());
+
+        List<CompletableFuture<GenerationResult>> tasks = fieldIds.stream()
+                .map(fieldId -> CompletableFuture.supplyAsync(
+                        () -> transactionTemplate.execute(status -> generateFieldSlice(harvest, fieldId)),
+                        harvestGenerationExecutor))
+                .toList();
 
-        return savedDetails.stream()
-                .map(harvestDetailMapper::toResponse)
-                .collect(Collectors.toList());
+        int evaluatedTrees = 0;
+        int created = 0;
+        double addedQuantity = 0.0;
+        Map<HarvestSkipReasonEnum, Long> skipped = new EnumMap<>(HarvestSkipReasonEnum.class);
+        Map<Long, String> failedFields = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                GenerationResult result = tasks.get(i).join();
+                evaluatedTrees += result.evaluatedTrees();
+                created += result.createdDetails();
+                addedQuantity += result.addedQuantity();
+                result.skippedByReason().forEach((reason, count) -> skipped.merge(reason, count, Long::sum));
+            } catch (CompletionException exception) {
+                failure = exception.getCause() instanceof RuntimeException cause ? cause : exception;
+                failedFields.put(fieldIds.get(i), failure.getMessage());
+            }
+        }
+
+        if (created > 0) {
+            double total = addedQuantity;
+            transactionTemplate.executeWithoutResult(status -> harvestRepository.incrementTotalQuantity(harvestId, total));
+        } else if (failure != null) {
+            throw failure;
+        }
+        if (created == 0) {
+            throw new BusinessException(
+                    String.format("All trees in farm %d have already been harvested in %s %d",
+                            farmId,
+                            harvest.getSeason(),
+                            harvest.getDate().getYear())
+            );
+        }
+        return new GenerationResult(List.of(), evaluatedTrees, created, addedQuantity, skipped, failedFields);
     }
 
-    private void updateHarvestTotalQuantity(Long harvestId) {
-        Harvest harvest = harvestRepository.findById(harvestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found with id: " + harvestId));
+    private GenerationResult generateFieldSlice(Harvest harvest, Long fieldId) {
+        List<Tree> trees = treeRepository.findByFieldId(fieldId);
+        Set<Long> harvestedTreeIds = harvestDetailRepository.findHarvestedTreeIdsByFieldId(
+                fieldId,
+                harvest.getSeason(),
+                harvest.getDate().getYear()
+        );
 
-        Double totalQuantity = calculateTotalQuantityForHarvest(harvestId);
-        harvest.setTotalQuantity(totalQuantity != null ? totalQuantity : 0.0);
-        harvestRepository.save(harvest);
+        Map<HarvestSkipReasonEnum, Long> skipped = new EnumMap<>(HarvestSkipReasonEnum.class);
+        List<HarvestDetail> details = buildDetails(
+                harvestRepository.getReferenceById(harvest.getId()),
+                harvest.getDate(),
+                trees,
+                harvestedTreeIds,
+                false,
+                skipped
+        );
+        harvestDetailRepository.saveAll(details);
+        return new GenerationResult(List.of(), trees.size(), details.size(), sumQuantities(details), skipped, Map.of());
     }
 
-    @Override
-    @Transactional
-    public List<HarvestDetailResponse> createHarvestDetailsForFarm(Long harvestId, Long farmId) {
-        Harvest harvest = harvestRepository.findById(harvestId)
-                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
-
+    private Farm requireFarmWithFields(Long farmId) {
         Farm farm = farmRepository.findByIdWithFields(farmId);
         if (farm == null) {
             throw new ResourceNotFoundException("Farm not found");
@@ -223,42 +466,102 @@ public class HarvestDetailServiceImpl implements HarvestDetailService {
         if (farm.getFields().isEmpty()) {
             throw new BusinessException("No fields found in farm " + farmId);
         }
+        return farm;
+    }
 
-        List<Tree> allTrees = treeRepository.findAllTreesByFarmId(farmId);
-
-
-        List<Tree> eligibleTrees = allTrees.stream()
-                .filter(tree -> !harvestDetailRepository.existsByTreeIdAndHarvestSeasonAndYear(
-                        tree.getId(),
-                        harvest.getSeason(),
-                        harvest.getDate().getYear()
-                )).toList();
-
-        if (eligibleTrees.isEmpty()) {
+    /**
+     * Creates one detail per eligible tree, saves them and adds their quantity to the harvest
+     * total. Skipped trees are counted by reason so callers can report them without mapping rows.
+     */
+    private GenerationResult generate(Harvest harvest, List<Tree> trees, Set<Long> harvestedTreeIds,
+                                      boolean skipYoungTrees, String scope) {
+        Map<HarvestSkipReasonEnum, Long> skipped = new EnumMap<>(HarvestSkipReasonEnum.class);
+        List<HarvestDetail> details = buildDetails(harvest, harvest.getDate(), trees, harvestedTreeIds,
+                skipYoungTrees, skipped);
+
+        if (details.isEmpty()) {
             throw new BusinessException(
-                    String.format("All trees in farm %d have already been harvested in %s %d",
-                            farmId,
+                    String.format("All trees in %s have already been harvested in %s %d",
+                            scope,
                             harvest.getSeason(),
                             harvest.getDate().getYear())
             );
         }
 
-        List<HarvestDetail> details = eligibleTrees.stream()
-                .map(tree -> HarvestDetail.builder()
+        List<HarvestDetail> savedDetails = harvestDetailRepository.saveAll(details);
+        double addedQuantity = sumQuantities(savedDetails);
+
+        // Update harvest total quantity
+        harvestRepository.incrementTotalQuantity(harvest.getId(), addedQuantity);
+
+        return new GenerationResult(savedDetails, trees.size(), savedDetails.size(), addedQuantity, skipped, Map.of());
+    }
+
+    private List<HarvestDetail> buildDetails(Harvest harvest, LocalDate harvestDate, List<Tree> trees,
+                                             Set<Long> harvestedTreeIds, boolean skipYoungTrees,
+                                             Map<HarvestSkipReasonEnum, Long> skipped) {
+        List<HarvestDetail> details = new ArrayList<>(trees.size());
+        LocalDate today = LocalDate.now();
+
+        for (Tree tree : trees) {
+            if (harvestedTreeIds.contains(tree.getId())) {
+                skipped.merge(HarvestSkipReasonEnum.ALREADY_HARVESTED, 1L, Long::sum);
+            } else if (skipYoungTrees && tree.getAge(today) <= 3) {
+                skipped.merge(HarvestSkipReasonEnum.TOO_YOUNG, 1L, Long::sum);
+            } else {
+                details.add(HarvestDetail.builder()
                         .harvest(harvest)
                         .tree(tree)
-                        .quantity(tree.getProductivity(harvest.getDate()))
-                        .build())
-                .collect(Collectors.toList());
+                        .quantity(tree.getProductivity(harvestDate))
+                        .build());
+            }
+        }
+        return details;
+    }
 
-        List<HarvestDetail> savedDetails = harvestDetailRepository.saveAll(details);
+    private HarvestGenerationSummaryResponse toSummary(Long harvestId, HarvestStrategyEnum strategy,
+                                                       GenerationResult result, long startedAt) {
+        return HarvestGenerationSummaryResponse.builder()
+                .harvestId(harvestId)
+                .strategy(strategy)
+                .evaluatedTrees(result.evaluatedTrees())
+                .createdDetails(result.createdDetails())
+                .skippedTrees(result.evaluatedTrees() - result.createdDetails())
+                .totalQuantityAdded(result.addedQuantity())
+                .skippedByReason(result.skippedByReason())
+                .failedFields(result.failedFields())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
 
-        // Update harvest total quantity
-        harvest.calculateTotalQuantity();
-        harvestRepository.save(harvest);
+    private record GenerationResult(
+            List<HarvestDetail> details,
+            int evaluatedTrees,
+            int createdDetails,
+            double addedQuantity,
+            Map<HarvestSkipReasonEnum, Long> skippedByReason,
+            Map<Long, String> failedFields
+    ) {
+    }
 
-        return savedDetails.stream()
-                .map(harvestDetailMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    public Double reconcileTotalQuantity(Long harvestId) {
+        if (!harvestRepository.existsById(harvestId)) {
+            throw new ResourceNotFoundException("Harvest not found with id: " + harvestId);
+        }
+
+        double reconciled = orZero(harvestDetailRepository.sumQuantityByHarvestId(harvestId));
+        harvestRepository.updateTotalQuantity(harvestId, reconciled);
+        return reconciled;
+    }
+
+    private double orZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private double sumQuantities(List<HarvestDetail> details) {
+        return details.stream()
+                .mapToDouble(HarvestDetail::getQuantity)
+                .sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,236 @@
+package org.system.citronix.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.citronix.dto.response.HarvestJobResponse;
+import org.system.citronix.entity.Harvest;
+import org.system.citronix.entity.HarvestDetail;
+import org.system.citronix.entity.HarvestJob;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.JobStatusEnum;
+import org.system.citronix.exception.BusinessException;
+import org.system.citronix.exception.ResourceNotFoundException;
+import org.system.citronix.mapper.HarvestJobMapper;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.HarvestJobRepository;
+import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.service.HarvestJobService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.system.citronix.constant.CitronixConstants.DEFAULT_HARVEST_JOB_CHUNK_SIZE;
+import static org.system.citronix.constant.CitronixConstants.HARVEST_JOB_STALE_MINUTES;
+import static org.system.citronix.constant.CitronixConstants.MAX_HARVEST_JOB_CHUNK_SIZE;
+
+/**
+ * Runs farm-wide harvest generation in the background. Trees are walked in ID order in
+ * fixed-size chunks and every chunk commits in its own transaction together with the job
+ * cursor, so a failed job can be restarted from the last committed chunk. A running job whose
+ * heartbeat has not moved for {@code HARVEST_JOB_STALE_MINUTES}, e.g. after the instance running
+ * it stopped, can be restarted the same way. Status changes that decide who runs a job are
+ * conditional updates, so a job is never picked up by two runs at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HarvestJobServiceImpl implements HarvestJobService {
+    private final HarvestJobRepository harvestJobRepository;
+    private final HarvestRepository harvestRepository;
+    private final HarvestDetailRepository harvestDetailRepository;
+    private final TreeRepository treeRepository;
+    private final FarmRepository farmRepository;
+    private final HarvestJobMapper harvestJobMapper;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("harvestJobExecutor")
+    private final TaskExecutor harvestJobExecutor;
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet();  // submitted to this instance's executor
+
+    @Override
+    public HarvestJobResponse startFarmHarvestJob(Long harvestId, Long farmId, Integer chunkSize) {
+        int size = chunkSize != null ? chunkSize : DEFAULT_HARVEST_JOB_CHUNK_SIZE;
+        if (size < 1 || size > MAX_HARVEST_JOB_CHUNK_SIZE) {
+            throw new BusinessException("Chunk size must be between 1 and " + MAX_HARVEST_JOB_CHUNK_SIZE);
+        }
+
+        HarvestJob job = transactionTemplate.execute(status -> {
+            if (!harvestRepository.existsById(harvestId)) {
+                throw new ResourceNotFoundException("Harvest not found");
+            }
+            if (!farmRepository.existsById(farmId)) {
+                throw new ResourceNotFoundException("Farm not found");
+            }
+
+            long totalTrees = treeRepository.countTreesByFarmId(farmId);
+            if (totalTrees == 0) {
+                throw new BusinessException("No trees found in farm " + farmId);
+            }
+
+            return harvestJobRepository.save(HarvestJob.builder()
+                    .harvestId(harvestId)
+                    .farmId(farmId)
+                    .status(JobStatusEnum.PENDING)
+                    .chunkSize(size)
+                    .totalTrees(totalTrees)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        });
+
+        submit(job.getId());
+        return harvestJobMapper.toResponse(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HarvestJobResponse getJobById(Long id) {
+        return harvestJobRepository.findById(id)
+                .map(harvestJobMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest job not found with id: " + id));
+    }
+
+    @Override
+    public HarvestJobResponse restartJob(Long id) {
+        HarvestJob job = transactionTemplate.execute(status -> {
+            HarvestJob existing = findJob(id);
+            int claimed = activeJobIds.contains(id) ? 0 : switch (existing.getStatus()) {
+                case FAILED -> harvestJobRepository.claimFailedForRestart(id);
+                case RUNNING -> harvestJobRepository.claimStaleForRestart(
+                        id, LocalDateTime.now().minusMinutes(HARVEST_JOB_STALE_MINUTES));
+                default -> 0;
+            };
+            if (claimed == 0) {
+                throw new BusinessException(String.format(
+                        "Only failed jobs or running jobs without progress for %d minutes can be restarted. Job %d is %s",
+                        HARVEST_JOB_STALE_MINUTES, id, existing.getStatus()));
+            }
+            return findJob(id);
+        });
+
+        submit(job.getId());
+        return harvestJobMapper.toResponse(job);
+    }
+
+    private void submit(Long jobId) {
+        if (!activeJobIds.add(jobId)) {
+            throw new BusinessException("Harvest job " + jobId + " is already running");
+        }
+        try {
+            harvestJobExecutor.execute(() -> {
+                try {
+                    runJob(jobId);
+                } finally {
+                    activeJobIds.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException exception) {
+            activeJobIds.remove(jobId);
+            log.warn("Harvest job {} rejected by the executor", jobId);
+            transactionTemplate.execute(status -> markFinished(jobId, JobStatusEnum.FAILED, exception));
+            throw new BusinessException("Harvest job queue is full. Job " + jobId + " was marked failed and can be restarted later");
+        }
+    }
+
+    private void runJob(Long jobId) {
+        try {
+            Integer claimed = transactionTemplate.execute(status ->
+                    harvestJobRepository.claimForRun(jobId, LocalDateTime.now()));
+            if (claimed == null || claimed == 0) {
+                log.info("Harvest job {} is no longer pending, skipping it", jobId);
+                return;
+            }
+
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextChunk(jobId)));
+            }
+
+            transactionTemplate.execute(status -> markFinished(jobId, JobStatusEnum.COMPLETED, null));
+        } catch (RuntimeException exception) {
+            log.error("Harvest job {} failed", jobId, exception);
+            transactionTemplate.execute(status -> markFinished(jobId, JobStatusEnum.FAILED, exception));
+        }
+    }
+
+    private HarvestJob markFinished(Long jobId, JobStatusEnum status, RuntimeException failure) {
+        HarvestJob job = findJob(jobId);
+        job.setStatus(status);
+        job.setFinishedAt(LocalDateTime.now());
+        if (failure != null) {
+            job.setFailedAttempts(job.getFailedAttempts() + 1);
+            job.setLastError(truncate(failure.getMessage()));
+        }
+        return harvestJobRepository.save(job);
+    }
+
+    /**
+     * Processes the chunk following the job cursor. Returns whether another chunk may follow.
+     */
+    private boolean processNextChunk(Long jobId) {
+        HarvestJob job = findJob(jobId);
+        Harvest harvest = harvestRepository.findById(job.getHarvestId())
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest not found"));
+
+        List<Tree> trees = treeRepository.findChunkByFarmId(
+                job.getFarmId(),
+                job.getLastTreeId(),
+                PageRequest.of(0, job.getChunkSize())
+        );
+        if (trees.isEmpty()) {
+            return false;
+        }
+
+        Set<Long> harvestedTreeIds = harvestDetailRepository.findHarvestedTreeIdsAmong(
+                trees.stream().map(Tree::getId).toList(),
+                harvest.getSeason(),
+                harvest.getDate().getYear()
+        );
+
+        List<HarvestDetail> details = trees.stream()
+                .filter(tree -> !harvestedTreeIds.contains(tree.getId()))
+                .map(tree -> HarvestDetail.builder()
+                        .harvest(harvest)
+                        .tree(tree)
+                        .quantity(tree.getProductivity(harvest.getDate()))
+                        .build())
+                .toList();
+
+        harvestDetailRepository.saveAll(details);
+
+        double addedQuantity = details.stream()
+                .mapToDouble(HarvestDetail::getQuantity)
+                .sum();
+        harvestRepository.incrementTotalQuantity(harvest.getId(), addedQuantity);
+
+        job.setLastTreeId(trees.get(trees.size() - 1).getId());
+        job.setProcessedTrees(job.getProcessedTrees() + trees.size());
+        job.setCreatedDetails(job.getCreatedDetails() + details.size());
+        job.setSkippedTrees(job.getSkippedTrees() + (trees.size() - details.size()));
+        job.setHeartbeatAt(LocalDateTime.now());
+        harvestJobRepository.save(job);
+
+        return trees.size() == job.getChunkSize();
+    }
+
+    private HarvestJob findJob(Long jobId) {
+        return harvestJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Harvest job not found with id: " + jobId));
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -4,17 +4,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.citronix.dto.request.HarvestRequest;
+import org.system.citronix.dto.response.FieldHarvestPreview;
+import org.system.citronix.dto.response.HarvestPreviewResponse;
 import org.system.citronix.dto.response.HarvestResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.entity.Harvest;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.HarvestMapper;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
 import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTierCount;
+import org.system.citronix.service.FieldTierSummaryService;
 import org.system.citronix.service.HarvestService;
+import org.system.citronix.enums.HarvestPreviewSourceEnum;
+import org.system.citronix.enums.ProductivityTierEnum;
 import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.util.PageUtil;
 import org.system.citronix.util.ValidationUtil;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +39,10 @@ import java.util.stream.Collectors;
 public class HarvestServiceImpl implements HarvestService {
     private final HarvestRepository harvestRepository;
     private final HarvestMapper harvestMapper;
+    private final FarmRepository farmRepository;
+    private final TreeRepository treeRepository;
+    private final HarvestDetailRepository harvestDetailRepository;
+    private final FieldTierSummaryService fieldTierSummaryService;
 
     @Override
     public HarvestResponse createHarvest(HarvestRequest request) {
@@ -92,10 +112,14 @@ public class HarvestServiceImpl implements HarvestService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<HarvestResponse> getAllHarvests() {
-        return harvestRepository.findAllWithDetails().stream()
-                .map(harvestMapper::toResponse)
-                .collect(Collectors.toList());
+    public PageResponse<HarvestResponse> getAllHarvests(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        return PageUtil.toPage(
+                harvestRepository.findPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                Harvest::getId,
+                harvestMapper::toResponse
+        );
     }
 
     @Override
@@ -127,4 +151,83 @@ public class HarvestServiceImpl implements HarvestService {
     public Double calculateTotalQuantityBetweenDates(LocalDate startDate, LocalDate endDate) {
         return harvestRepository.sumTotalQuantityBetweenDates(startDate, endDate);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public HarvestPreviewResponse previewHarvest(Long farmId, LocalDate date, HarvestPreviewSourceEnum source) {
+        if (!farmRepository.existsById(farmId)) {
+            throw new ResourceNotFoundException("Farm not found with id: " + farmId);
+        }
+
+        // Same trees as generation: every tree of the farm, less those already harvested this season
+        SeasonEnum season = SeasonEnum.fromDate(date);
+        Map<Long, Map<ProductivityTierEnum, Long>> treesByField;
+        if (source == HarvestPreviewSourceEnum.SUMMARY) {
+            treesByField = new TreeMap<>(fieldTierSummaryService.getTreesByFieldAndTier(farmId, date));
+            for (FieldTierCount harvested : harvestDetailRepository.countHarvestedTreesByFieldAndTier(
+                    farmId, season, date.getYear(), matureCutoff(date), oldCutoff(date), retiredCutoff(date))) {
+                Map<ProductivityTierEnum, Long> fieldTrees = new EnumMap<>(ProductivityTierEnum.class);
+                fieldTrees.putAll(treesByField.getOrDefault(harvested.getFieldId(), Map.of()));
+                tierCounts(harvested).forEach((tier, trees) -> fieldTrees.merge(tier, -trees, Long::sum));
+                treesByField.put(harvested.getFieldId(), fieldTrees);
+            }
+        } else {
+            treesByField = new LinkedHashMap<>();
+            for (FieldTierCount count : treeRepository.countHarvestableTreesByFieldAndTier(
+                    farmId, season, date.getYear(), matureCutoff(date), oldCutoff(date), retiredCutoff(date))) {
+                treesByField.put(count.getFieldId(), tierCounts(count));
+            }
+        }
+
+        Map<ProductivityTierEnum, Long> farmTrees = new EnumMap<>(ProductivityTierEnum.class);
+        List<FieldHarvestPreview> fields = new ArrayList<>(treesByField.size());
+        treesByField.forEach((fieldId, fieldTrees) -> {
+            fieldTrees.forEach((tier, trees) -> farmTrees.merge(tier, trees, Long::sum));
+            fields.add(FieldHarvestPreview.builder()
+                    .fieldId(fieldId)
+                    .treesByTier(fieldTrees)
+                    .expectedQuantity(expectedQuantity(fieldTrees))
+                    .build());
+        });
+
+        Map<ProductivityTierEnum, Double> quantityByTier = new EnumMap<>(ProductivityTierEnum.class);
+        farmTrees.forEach((tier, trees) -> quantityByTier.put(tier, trees * tier.getProductivity()));
+
+        return HarvestPreviewResponse.builder()
+                .farmId(farmId)
+                .date(date)
+                .totalTrees(farmTrees.values().stream().mapToLong(Long::longValue).sum())
+                .expectedQuantity(expectedQuantity(farmTrees))
+                .treesByTier(farmTrees)
+                .quantityByTier(quantityByTier)
+                .fields(fields)
+                .build();
+    }
+
+    private Map<ProductivityTierEnum, Long> tierCounts(FieldTierCount count) {
+        Map<ProductivityTierEnum, Long> fieldTrees = new EnumMap<>(ProductivityTierEnum.class);
+        fieldTrees.put(ProductivityTierEnum.YOUNG, count.getYoungTrees());
+        fieldTrees.put(ProductivityTierEnum.MATURE, count.getMatureTrees());
+        fieldTrees.put(ProductivityTierEnum.OLD, count.getOldTrees());
+        fieldTrees.put(ProductivityTierEnum.RETIRED, count.getRetiredTrees());
+        return fieldTrees;
+    }
+
+    private static LocalDate matureCutoff(LocalDate date) {
+        return ProductivityTierEnum.MATURE.plantedOnOrBefore(date);
+    }
+
+    private static LocalDate oldCutoff(LocalDate date) {
+        return ProductivityTierEnum.OLD.plantedOnOrBefore(date);
+    }
+
+    private static LocalDate retiredCutoff(LocalDate date) {
+        return ProductivityTierEnum.RETIRED.plantedOnOrBefore(date);
+    }
+
+    private double expectedQuantity(Map<ProductivityTierEnum, Long> treesByTier) {
+        return treesByTier.entrySet().stream()
+                .mapToDouble(entry -> entry.getValue() * entry.getKey().getProductivity())
+                .sum();
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.system.citronix.dto.request.SaleRequest;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.dto.response.SaleResponse;
 import org.system.citronix.entity.Harvest;
 import org.system.citronix.entity.Sale;
@@ -14,6 +15,7 @@ import org.system.citronix.mapper.SaleMapper;
 import org.system.citronix.repository.HarvestRepository;
 import org.system.citronix.repository.SaleRepository;
 import org.system.citronix.service.SaleService;
+import org.system.citronix.util.PageUtil;
 import org.system.citronix.util.ValidationUtil;
 
 import java.time.LocalDate;
@@ -85,10 +87,14 @@ public class SaleServiceImpl implements SaleService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<SaleResponse> getAllSales() {
-        return saleRepository.findAll().stream()
-                .map(saleMapper::toResponse)
-                .collect(Collectors.toList());
+    public PageResponse<SaleResponse> getAllSales(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        return PageUtil.toPage(
+                saleRepository.findPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                Sale::getId,
+                saleMapper::toResponse
+        );
     }
 
     @Override
@@ -1,21 +1,41 @@
 package org.system.citronix.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.system.citronix.dto.request.TreeBatchRequest;
 import org.system.citronix.dto.request.TreeRequest;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeAgeHistogramResponse;
+import org.system.citronix.dto.response.TreeBatchResponse;
 import org.system.citronix.dto.response.TreeResponse;
 import org.system.citronix.entity.Field;
 import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.event.TreesPlantedEvent;
+import org.system.citronix.event.TreesRemovedEvent;
+import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.TreeMapper;
+import org.system.citronix.registry.TreeRegistry;
 import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestRepository;
 import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.service.FieldTierSummaryService;
 import org.system.citronix.service.TreeService;
+import org.system.citronix.util.PageUtil;
+import org.system.citronix.util.TreeAgeTable;
 import org.system.citronix.util.ValidationUtil;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,7 +44,12 @@ import java.util.stream.Collectors;
 public class TreeServiceImpl implements TreeService {
     private final TreeRepository treeRepository;
     private final FieldRepository fieldRepository;
+    private final HarvestRepository harvestRepository;
     private final TreeMapper treeMapper;
+    private final FieldTierSummaryService fieldTierSummaryService;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<TreeRegistry> treeRegistry;
 
     @Override
     public TreeResponse plantTree(TreeRequest request) {
@@ -33,10 +58,62 @@ public class TreeServiceImpl implements TreeService {
 
         ValidationUtil.validatePlantingDate(request.getPlantDate());
         ValidationUtil.validateTreeDensity(field, 1);
+        reserveTreeSpaces(field, 1);
 
         Tree tree = treeMapper.toEntity(request);
         tree.setField(field);
-        return treeMapper.toResponse(treeRepository.save(tree) , LocalDate.now());
+        Tree savedTree = treeRepository.save(tree);
+        fieldTierSummaryService.recordPlanted(field.getId(), List.of(savedTree.getPlantDate()));
+        eventPublisher.publishEvent(new TreesPlantedEvent(
+                field.getId(), List.of(savedTree.getId()), List.of(savedTree.getPlantDate())));
+        return treeMapper.toResponse(savedTree, LocalDate.now(clock));
+    }
+
+    @Override
+    public TreeBatchResponse plantTrees(TreeBatchRequest request) {
+        List<LocalDate> plantDates = resolvePlantDates(request);
+
+        Field field = fieldRepository.findById(request.getFieldId())
+                .orElseThrow(() -> new ResourceNotFoundException("Field not found with id: " + request.getFieldId()));
+
+        new HashSet<>(plantDates).forEach(ValidationUtil::validatePlantingDate);
+        ValidationUtil.validateTreeDensity(field, plantDates.size());
+        reserveTreeSpaces(field, plantDates.size());
+
+        List<Tree> trees = plantDates.stream()
+                .map(plantDate -> Tree.builder()
+                        .plantDate(plantDate)
+                        .field(field)
+                        .build())
+                .toList();
+        List<Long> treeIds = treeRepository.saveAll(trees).stream()
+                .map(Tree::getId)
+                .toList();
+        fieldTierSummaryService.recordPlanted(field.getId(), plantDates);
+        eventPublisher.publishEvent(new TreesPlantedEvent(field.getId(), treeIds, plantDates));
+
+        return TreeBatchResponse.builder()
+                .fieldId(field.getId())
+                .created(treeIds.size())
+                .treeIds(treeIds)
+                .build();
+    }
+
+    /**
+     * Atomically adds to the field's tree counter, so concurrent plantings cannot both pass the
+     * density check read from a stale counter.
+     */
+    private void reserveTreeSpaces(Field field, int count) {
+        ValidationUtil.validateTreeSpacesReserved(fieldRepository.incrementTreeCount(field.getId(), count) > 0, field);
+    }
+
+    private List<LocalDate> resolvePlantDates(TreeBatchRequest request) {
+        boolean hasList = request.getPlantDates() != null && !request.getPlantDates().isEmpty();
+        boolean hasCount = request.getPlantDate() != null && request.getCount() != null;
+        if (hasList == hasCount) {
+            throw new BusinessException("Provide either plantDate with count, or a list of plantDates");
+        }
+        return hasList ? request.getPlantDates() : Collections.nCopies(request.getCount(), request.getPlantDate());
     }
 
     @Override
@@ -46,62 +123,100 @@ public class TreeServiceImpl implements TreeService {
 
         ValidationUtil.validatePlantingDate(request.getPlantDate());
 
+        LocalDate previousPlantDate = tree.getPlantDate();
         treeMapper.updateTreeFromRequest(request, tree);
-        return treeMapper.toResponse(treeRepository.save(tree) , LocalDate.now());
+        Tree savedTree = treeRepository.save(tree);
+        if (!previousPlantDate.equals(savedTree.getPlantDate())) {
+            fieldTierSummaryService.recordRemoved(savedTree.getField().getId(), List.of(previousPlantDate));
+            fieldTierSummaryService.recordPlanted(savedTree.getField().getId(), List.of(savedTree.getPlantDate()));
+            eventPublisher.publishEvent(new TreesRemovedEvent(savedTree.getField().getId(), List.of(savedTree.getId())));
+            eventPublisher.publishEvent(new TreesPlantedEvent(
+                    savedTree.getField().getId(), List.of(savedTree.getId()), List.of(savedTree.getPlantDate())));
+        }
+        return treeMapper.toResponse(savedTree, LocalDate.now(clock));
     }
 
     @Override
     @Transactional(readOnly = true)
     public TreeResponse getTreeById(Long id) {
         return treeRepository.findById(id)
-                .map(tree -> treeMapper.toResponse(tree , LocalDate.now()))
+                .map(tree -> treeMapper.toResponse(tree, LocalDate.now(clock)))
                 .orElseThrow(() -> new ResourceNotFoundException("Tree not found with id: " + id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TreeResponse> getAllTrees() {
-        return treeRepository.findAll().stream()
-                .map(tree -> treeMapper.toResponse(tree , LocalDate.now()))
-                .collect(Collectors.toList());
+    public PageResponse<TreeResponse> getAllTrees(Long after, int limit) {
+        ValidationUtil.validatePageLimit(limit);
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
+        return PageUtil.toPage(
+                treeRepository.findPageAfter(PageUtil.cursor(after), PageUtil.fetchLimit(limit)),
+                limit,
+                Tree::getId,
+                tree -> treeMapper.toResponse(tree, ageTable)
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TreeResponse> getTreesByFieldId(Long fieldId) {
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
         return treeRepository.findByFieldId(fieldId).stream()
-                .map(tree -> treeMapper.toResponse(tree , LocalDate.now()))
+                .map(tree -> treeMapper.toResponse(tree, ageTable))
                 .collect(Collectors.toList());
     }
 
     @Override
     public void deleteTree(Long id) {
-        if (!treeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Tree not found with id: " + id);
-        }
-        treeRepository.deleteById(id);
+        Tree tree = treeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tree not found with id: " + id));
+        harvestRepository.subtractDetailsByTreeId(id);
+        treeRepository.delete(tree);
+        fieldRepository.decrementTreeCount(tree.getField().getId(), 1);
+        fieldTierSummaryService.recordRemoved(tree.getField().getId(), List.of(tree.getPlantDate()));
+        eventPublisher.publishEvent(new TreesRemovedEvent(tree.getField().getId(), List.of(tree.getId())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TreeResponse> getTreesByPlantingPeriod(LocalDate startDate, LocalDate endDate) {
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
         return treeRepository.findByPlantDateBetween(startDate, endDate).stream()
-                .map(tree -> treeMapper.toResponse(tree , LocalDate.now()))
+                .map(tree -> treeMapper.toResponse(tree, ageTable))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TreeResponse> getTreesOlderThan(int age) {
-        return treeRepository.findTreesOlderThan(age).stream()
-                .map(tree -> treeMapper.toResponse(tree , LocalDate.now()))
+        // Older than N full years means planted at least N + 1 years ago
+        TreeAgeTable ageTable = TreeAgeTable.of(LocalDate.now(clock));
+        LocalDate cutoff = ageTable.getReferenceDate().minusYears(age + 1L);
+        return treeRepository.findTreesPlantedOnOrBefore(cutoff).stream()
+                .map(tree -> treeMapper.toResponse(tree, ageTable))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TreeResponse> getTreesByAgeBand(ProductivityTierEnum band) {
+        LocalDate today = LocalDate.now(clock);
+        TreeAgeTable ageTable = TreeAgeTable.of(today);
+        LocalDate cutoff = band.plantedOnOrBefore(today);
+        ProductivityTierEnum olderTier = band.olderTier();
+        List<Tree> trees = olderTier == null
+                ? treeRepository.findTreesPlantedOnOrBefore(cutoff)
+                : treeRepository.findTreesPlantedAfterAndOnOrBefore(olderTier.plantedOnOrBefore(today), cutoff);
+        return trees.stream()
+                .map(tree -> treeMapper.toResponse(tree, ageTable))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countTreesInField(Long fieldId) {
-        return treeRepository.countTreesByFieldId(fieldId);
+        TreeRegistry registry = readyRegistry();
+        return registry != null ? registry.countTrees(fieldId) : treeRepository.countTreesByFieldId(fieldId);
     }
 
     @Override
@@ -109,12 +224,49 @@ public class TreeServiceImpl implements TreeService {
     public double calculateTreeProductivity(Long id) {
         Tree tree = treeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tree not found with id: " + id));
-        return tree.getProductivity(LocalDate.now());
+        return tree.getProductivity(LocalDate.now(clock));
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countTreesPlantedInPeriod(Long fieldId, LocalDate startDate, LocalDate endDate) {
-        return treeRepository.countTreesPlantedInPeriod(fieldId, startDate, endDate);
+        TreeRegistry registry = readyRegistry();
+        return registry != null
+                ? registry.countPlantedInPeriod(fieldId, startDate, endDate)
+                : treeRepository.countTreesPlantedInPeriod(fieldId, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TreeAgeHistogramResponse getAgeHistogram(Long fieldId) {
+        LocalDate today = LocalDate.now(clock);
+        TreeRegistry registry = readyRegistry();
+
+        Map<Integer, Long> treesByAge;
+        if (registry != null) {
+            treesByAge = registry.ageHistogram(fieldId, today);
+        } else {
+            TreeAgeTable ageTable = TreeAgeTable.of(today);
+            treesByAge = treeRepository.findByFieldId(fieldId).stream()
+                    .collect(Collectors.groupingBy(
+                            tree -> ageTable.ageOf(tree.getPlantDate()),
+                            TreeMap::new,
+                            Collectors.counting()));
+        }
+
+        return TreeAgeHistogramResponse.builder()
+                .fieldId(fieldId)
+                .date(today)
+                .totalTrees(treesByAge.values().stream().mapToLong(Long::longValue).sum())
+                .treesByAge(treesByAge)
+                .build();
+    }
+
+    /**
+     * The tree registry when it is enabled and loaded, otherwise {@code null} to read the database.
+     */
+    private TreeRegistry readyRegistry() {
+        TreeRegistry registry = treeRegistry.getIfAvailable();
+        return registry != null && registry.isReady() ? registry : null;
     }
 }
\ No newline at end of file
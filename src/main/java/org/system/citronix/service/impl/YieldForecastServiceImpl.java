@@ -0,0 +1,152 @@
+package org.system.citronix.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.citronix.dto.response.FarmForecastResponse;
+import org.system.citronix.dto.response.FieldYieldForecast;
+import org.system.citronix.dto.response.YieldForecastYear;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.exception.ResourceNotFoundException;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.TreePlantingRepository;
+import org.system.citronix.repository.projection.TreePlantings;
+import org.system.citronix.service.YieldForecastService;
+import org.system.citronix.util.ValidationUtil;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Forecasts the yield of every field of a farm over the coming years. Plant dates are loaded once
+ * into a sorted primitive array per field; for each forecast year the trees in each productivity
+ * tier are then counted with a binary search against the tier's plant-date cutoff, so the cost
+ * per year does not depend on the number of trees.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class YieldForecastServiceImpl implements YieldForecastService {
+    private static final ProductivityTierEnum[] TIERS = ProductivityTierEnum.values();
+
+    private final FarmRepository farmRepository;
+    private final TreePlantingRepository treePlantingRepository;
+    private final Clock clock;
+
+    @Override
+    public FarmForecastResponse forecastFarmYield(Long farmId, int years) {
+        ValidationUtil.validateForecastYears(years);
+        if (!farmRepository.existsById(farmId)) {
+            throw new ResourceNotFoundException("Farm not found with id: " + farmId);
+        }
+
+        LocalDate referenceDate = LocalDate.now(clock);
+        List<LocalDate> dates = IntStream.rangeClosed(1, years)
+                .mapToObj(referenceDate::plusYears)
+                .toList();
+        long[][] cutoffs = tierCutoffs(dates);
+
+        TreePlantings plantings = treePlantingRepository.findPlantingsByFarmId(farmId);
+
+        // Fields are independent, so they are split across fork-join tasks
+        List<long[][]> fieldCounts = IntStream.range(0, plantings.fieldCount())
+                .parallel()
+                .mapToObj(field -> countTiers(plantings, field, cutoffs))
+                .toList();
+
+        long[][] farmCounts = new long[years][TIERS.length];
+        List<FieldYieldForecast> fields = new ArrayList<>(fieldCounts.size());
+        for (int field = 0; field < fieldCounts.size(); field++) {
+            long[][] counts = fieldCounts.get(field);
+            for (int year = 0; year < years; year++) {
+                for (int tier = 0; tier < TIERS.length; tier++) {
+                    farmCounts[year][tier] += counts[year][tier];
+                }
+            }
+            fields.add(FieldYieldForecast.builder()
+                    .fieldId(plantings.fieldId(field))
+                    .totalTrees(plantings.fieldEnd(field) - plantings.fieldStart(field))
+                    .years(toYears(dates, counts))
+                    .build());
+        }
+
+        return FarmForecastResponse.builder()
+                .farmId(farmId)
+                .referenceDate(referenceDate)
+                .totalTrees(plantings.treeCount())
+                .years(toYears(dates, farmCounts))
+                .fields(fields)
+                .build();
+    }
+
+    /**
+     * Latest plant epoch day of a tree in each tier, per forecast date. Index 0 (the youngest
+     * tier) is unused since every tree is at least young.
+     */
+    private long[][] tierCutoffs(List<LocalDate> dates) {
+        long[][] cutoffs = new long[dates.size()][TIERS.length];
+        for (int year = 0; year < dates.size(); year++) {
+            for (int tier = 1; tier < TIERS.length; tier++) {
+                cutoffs[year][tier] = TIERS[tier].plantedOnOrBefore(dates.get(year)).toEpochDay();
+            }
+        }
+        return cutoffs;
+    }
+
+    private long[][] countTiers(TreePlantings plantings, int field, long[][] cutoffs) {
+        int[] plantEpochDays = plantings.getPlantEpochDays();
+        int start = plantings.fieldStart(field);
+        int end = plantings.fieldEnd(field);
+
+        long[][] counts = new long[cutoffs.length][TIERS.length];
+        for (int year = 0; year < cutoffs.length; year++) {
+            // Trees planted on or before a tier's cutoff are in that tier or an older one
+            long inOlderTiers = 0;
+            for (int tier = TIERS.length - 1; tier > 0; tier--) {
+                long inTierOrOlder = countPlantedOnOrBefore(plantEpochDays, start, end, cutoffs[year][tier]);
+                counts[year][tier] = inTierOrOlder - inOlderTiers;
+                inOlderTiers = inTierOrOlder;
+            }
+            counts[year][0] = (end - start) - inOlderTiers;
+        }
+        return counts;
+    }
+
+    private static int countPlantedOnOrBefore(int[] sortedDays, int start, int end, long cutoff) {
+        int low = start;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedDays[mid] <= cutoff) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - start;
+    }
+
+    private List<YieldForecastYear> toYears(List<LocalDate> dates, long[][] counts) {
+        List<YieldForecastYear> years = new ArrayList<>(dates.size());
+        for (int year = 0; year < dates.size(); year++) {
+            Map<ProductivityTierEnum, Long> treesByTier = new EnumMap<>(ProductivityTierEnum.class);
+            double expectedQuantity = 0.0;
+            for (int tier = 0; tier < TIERS.length; tier++) {
+                treesByTier.put(TIERS[tier], counts[year][tier]);
+                expectedQuantity += counts[year][tier] * TIERS[tier].getProductivity();
+            }
+            years.add(YieldForecastYear.builder()
+                    .year(dates.get(year).getYear())
+                    .date(dates.get(year))
+                    .treesByTier(treesByTier)
+                    .expectedQuantity(expectedQuantity)
+                    .build());
+        }
+        return years;
+    }
+}
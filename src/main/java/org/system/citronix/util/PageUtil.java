@@ -0,0 +1,49 @@
+package org.system.citronix.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.system.citronix.dto.response.PageResponse;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers for keyset pagination on entity IDs. Repositories fetch {@code limit + 1} rows after the
+ * cursor; the extra row only tells whether another page exists.
+ */
+public class PageUtil {
+
+    public static long cursor(Long after) {
+        return after != null ? after : 0L;
+    }
+
+    public static Pageable fetchLimit(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public static <E, T> PageResponse<T> toPage(List<E> rows, int limit, Function<E, Long> idOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        return PageResponse.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .next(hasMore ? idOf.apply(pageRows.get(pageRows.size() - 1)) : null)
+                .limit(limit)
+                .build();
+    }
+
+    /**
+     * Offset page for ranked results, which have no stable ID order. {@code rows} start at the
+     * offset and {@code next} is the offset of the following page.
+     */
+    public static <E, T> PageResponse<T> toOffsetPage(List<E> rows, int offset, int limit, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        return PageResponse.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .next(hasMore ? (long) offset + limit : null)
+                .limit(limit)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package org.system.citronix.util;
+
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static org.system.citronix.constant.CitronixConstants.TREE_AGE_TABLE_YEARS;
+
+/**
+ * Tree ages and productivities relative to a fixed reference date. Birthday cutoffs are
+ * precomputed once as epoch days, so looking up a tree is a binary search over a primitive array
+ * instead of a {@link Period} per tree. Results match {@code Tree.getAge} and
+ * {@code Tree.getProductivity} for the same reference date.
+ */
+public final class TreeAgeTable {
+    private final LocalDate referenceDate;
+    // cutoffs[age] is the latest plant date, as an epoch day, of a tree that is at least age years old
+    private final long[] cutoffs;
+    private final double[] productivities;
+
+    private TreeAgeTable(LocalDate referenceDate) {
+        this.referenceDate = referenceDate;
+        this.cutoffs = new long[TREE_AGE_TABLE_YEARS + 1];
+        this.productivities = new double[TREE_AGE_TABLE_YEARS + 1];
+        for (int age = 0; age <= TREE_AGE_TABLE_YEARS; age++) {
+            cutoffs[age] = referenceDate.minusYears(age).toEpochDay();
+            productivities[age] = ProductivityTierEnum.forAge(age).getProductivity();
+        }
+    }
+
+    public static TreeAgeTable of(LocalDate referenceDate) {
+        return new TreeAgeTable(referenceDate);
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    public int ageOf(LocalDate plantDate) {
+        return ageOfEpochDay(plantDate.toEpochDay());
+    }
+
+    public int ageOfEpochDay(long plantDay) {
+        if (plantDay > cutoffs[0] || plantDay <= cutoffs[TREE_AGE_TABLE_YEARS]) {
+            // Planted after the reference date, or older than the table covers
+            return Period.between(LocalDate.ofEpochDay(plantDay), referenceDate).getYears();
+        }
+
+        int low = 0;
+        int high = TREE_AGE_TABLE_YEARS - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (cutoffs[mid] >= plantDay) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    public double productivityOf(LocalDate plantDate) {
+        int age = ageOf(plantDate);
+        if (age < 0 || age > TREE_AGE_TABLE_YEARS) {
+            return ProductivityTierEnum.forAge(age).getProductivity();
+        }
+        return productivities[age];
+    }
+}
@@ -16,17 +16,16 @@ public class ValidationUtil {
         }
     }
 
-    public static void validateFarmFields(Farm farm, Double newFieldArea) {
-        if (farm.getFields().size() >= CitronixConstants.MAX_FIELDS_PER_FARM) {
+    public static void validateFarmFields(long fieldCount) {
+        if (fieldCount >= CitronixConstants.MAX_FIELDS_PER_FARM) {
             throw new BusinessException("Farm has reached maximum number of fields: " + CitronixConstants.MAX_FIELDS_PER_FARM);
         }
+    }
 
-        double totalFieldArea = farm.getFields().stream()
-                .mapToDouble(Field::getArea)
-                .sum() + newFieldArea;
-
-        if (totalFieldArea >= farm.getArea()) {
-            throw new BusinessException("Total field area cannot exceed farm area");
+    public static void validateFarmAreaAllocated(boolean allocated, Farm farm) {
+        if (!allocated) {
+            throw new BusinessException(String.format(
+                    "Total field area cannot exceed farm area. Available area: %.1f", farm.calculateLeftArea()));
         }
     }
 
@@ -50,14 +49,21 @@ public class ValidationUtil {
     }
 
     public static void validateTreeDensity(Field field, int newTreeCount) {
-        int maxTrees = (int) (field.getArea() * CitronixConstants.MAX_TREES_PER_HECTARE);
-        int currentTrees = field.getTrees().size();
+        if (field.getTreeCount() + newTreeCount > field.getMaximumTreeCapacity()) {
+            throw densityExceeded(field);
+        }
+    }
 
-        if (currentTrees + newTreeCount > maxTrees) {
-            throw new BusinessException("Maximum tree density exceeded. Maximum allowed: " + maxTrees + " trees");
+    public static void validateTreeSpacesReserved(boolean reserved, Field field) {
+        if (!reserved) {
+            throw densityExceeded(field);
         }
     }
 
+    private static BusinessException densityExceeded(Field field) {
+        return new BusinessException("Maximum tree density exceeded. Maximum allowed: " + field.getMaximumTreeCapacity() + " trees");
+    }
+
     public static void validateHarvestSeason(Harvest harvest, LocalDate date) {
         if (!harvest.isValidSeason(date)) {
             throw new BusinessException("Invalid harvest date for the specified season");
@@ -83,6 +89,39 @@ public class ValidationUtil {
         }
     }
 
+    public static void validatePageLimit(int limit) {
+        if (limit < 1 || limit > CitronixConstants.MAX_PAGE_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + CitronixConstants.MAX_PAGE_LIMIT);
+        }
+    }
+
+    public static void validatePageOffset(int offset) {
+        if (offset < 0) {
+            throw new BusinessException("Offset must not be negative");
+        }
+    }
+
+    public static void validateSearchQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("Search query must not be blank");
+        }
+    }
+
+    public static void validateAgeBand(Integer minAge, Integer maxAge) {
+        if ((minAge != null && minAge < 0) || (maxAge != null && maxAge < 0)) {
+            throw new BusinessException("Tree ages must not be negative");
+        }
+        if (minAge != null && maxAge != null && minAge > maxAge) {
+            throw new BusinessException("Minimum age cannot exceed maximum age");
+        }
+    }
+
+    public static void validateForecastYears(int years) {
+        if (years < 1 || years > CitronixConstants.MAX_FORECAST_YEARS) {
+            throw new BusinessException("Forecast years must be between 1 and " + CitronixConstants.MAX_FORECAST_YEARS);
+        }
+    }
+
     public static void validateHarvestSeasonUniqueness(Boolean exists, SeasonEnum season, int year) {
         if (exists) {
             throw new BusinessException(String.format(
@@ -0,0 +1,196 @@
+package org.system.citronix.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Harvest;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.repository.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.system.citronix.constant.CitronixConstants.FARM_NAME_UNIQUE_CONSTRAINT;
+import static org.system.citronix.constant.CitronixConstants.ID_ALLOCATION_SIZE;
+
+/**
+ * Runs the startup maintenance against rows written outside Hibernate. Sequence changes are DDL
+ * and commit on their own, so the test does not run in a rolled-back transaction.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SchemaMaintenance.class)
+class SchemaMaintenanceTest {
+
+    private static final long LEGACY_TREE_ID = 5_000L;
+    private static final long LEGACY_DETAIL_ID = 7_001L;
+
+    @Autowired
+    private SchemaMaintenance schemaMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private TreeRepository treeRepository;
+
+    @Autowired
+    private HarvestRepository harvestRepository;
+
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
+    private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
+    private Field field;
+    private Harvest harvest;
+
+    @BeforeEach
+    void setUp() {
+        Farm farm = farmRepository.save(Farm.builder()
+                .name("Maintenance Farm")
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+        field = fieldRepository.save(Field.builder().area(2.0).farm(farm).trees(new ArrayList<>()).build());
+        harvest = harvestRepository.save(Harvest.builder()
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(0.0)
+                .harvestDetails(new ArrayList<>())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM summary_checkpoints WHERE name IN (?, ?)",
+                SchemaMaintenance.TREE_COUNT_BACKFILL, SchemaMaintenance.ALLOCATED_AREA_BACKFILL);
+        harvestDetailRepository.deleteAllInBatch();
+        treeRepository.deleteAllInBatch();
+        harvestRepository.deleteAllInBatch();
+        fieldRepository.deleteAllInBatch();
+        farmRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should move ID sequences past IDs assigned before the sequences existed")
+    void shouldMoveIdSequencesPastExistingIds() {
+        jdbcTemplate.update("INSERT INTO trees (id, plant_date, field_id) VALUES (?, ?, ?)",
+                LEGACY_TREE_ID, baseDate, field.getId());
+        jdbcTemplate.update("INSERT INTO harvest_details (id, harvest_id, tree_id, quantity) VALUES (?, ?, ?, ?)",
+                LEGACY_DETAIL_ID, harvest.getId(), LEGACY_TREE_ID, 12.0);
+
+        schemaMaintenance.alignIdSequences();
+
+        // The next pooled block starts right after the value nextval returns minus the allocation
+        assertThat(nextval("trees_seq") - ID_ALLOCATION_SIZE).isGreaterThanOrEqualTo(LEGACY_TREE_ID);
+        assertThat(nextval("harvest_details_seq") - ID_ALLOCATION_SIZE).isGreaterThanOrEqualTo(LEGACY_DETAIL_ID);
+    }
+
+    @Test
+    @DisplayName("Should leave sequences that are already ahead of their tables")
+    void shouldLeaveSequencesAlreadyAhead() {
+        schemaMaintenance.alignIdSequences();
+        long before = nextval("trees_seq");
+
+        schemaMaintenance.alignIdSequences();
+
+        // One value consumed by the check itself, no restart
+        assertThat(nextval("trees_seq")).isEqualTo(before + 2L * ID_ALLOCATION_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should backfill tree counts once")
+    void shouldBackfillTreeCountsOnce() {
+        jdbcTemplate.update("DELETE FROM summary_checkpoints WHERE name = ?", SchemaMaintenance.TREE_COUNT_BACKFILL);
+        jdbcTemplate.update("INSERT INTO trees (id, plant_date, field_id) VALUES (?, ?, ?), (?, ?, ?)",
+                LEGACY_TREE_ID, baseDate, field.getId(), LEGACY_TREE_ID + 1, baseDate, field.getId());
+
+        schemaMaintenance.backfillTreeCounts();
+        assertThat(treeCount()).isEqualTo(2);
+
+        // Later changes go through the counter, not the backfill
+        jdbcTemplate.update("UPDATE fields SET tree_count = 5 WHERE id = ?", field.getId());
+        schemaMaintenance.backfillTreeCounts();
+        assertThat(treeCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should backfill allocated area for all farms once")
+    void shouldBackfillAllocatedAreasOnce() {
+        jdbcTemplate.update("DELETE FROM summary_checkpoints WHERE name = ?", SchemaMaintenance.ALLOCATED_AREA_BACKFILL);
+        fieldRepository.save(Field.builder().area(3.0).farm(field.getFarm()).trees(new ArrayList<>()).build());
+        jdbcTemplate.update("UPDATE farms SET allocated_area = 0");
+
+        schemaMaintenance.backfillAllocatedAreas();
+        assertThat(allocatedArea()).isEqualTo(5.0);
+
+        jdbcTemplate.update("UPDATE farms SET allocated_area = 0");
+        schemaMaintenance.backfillAllocatedAreas();
+        assertThat(allocatedArea()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail startup when duplicate farm names block the unique constraint")
+    void shouldFailWhenDuplicateFarmNamesExist() {
+        jdbcTemplate.execute("ALTER TABLE farms DROP CONSTRAINT " + FARM_NAME_UNIQUE_CONSTRAINT);
+        try {
+            jdbcTemplate.update("INSERT INTO farms (name, location, area, creation_date, allocated_area) " +
+                    "SELECT name, location, area, creation_date, 0 FROM farms WHERE id = ?", field.getFarm().getId());
+
+            assertThatThrownBy(() -> schemaMaintenance.ensureFarmNameConstraint())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Maintenance Farm");
+        } finally {
+            jdbcTemplate.update("DELETE FROM farms WHERE name = 'Maintenance Farm' AND id <> ?", field.getFarm().getId());
+            schemaMaintenance.ensureFarmNameConstraint();
+        }
+    }
+
+    @Test
+    @DisplayName("Should add the farm name constraint when it is missing")
+    void shouldAddMissingFarmNameConstraint() {
+        jdbcTemplate.execute("ALTER TABLE farms DROP CONSTRAINT " + FARM_NAME_UNIQUE_CONSTRAINT);
+
+        schemaMaintenance.ensureFarmNameConstraint();
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO farms (name, location, area, creation_date, allocated_area) VALUES (?, ?, ?, ?, 0)",
+                "Maintenance Farm", "Elsewhere", 1.0, baseDate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private double allocatedArea() {
+        return jdbcTemplate.queryForObject("SELECT allocated_area FROM farms WHERE id = ?", Double.class,
+                field.getFarm().getId());
+    }
+
+    private int treeCount() {
+        return jdbcTemplate.queryForObject("SELECT tree_count FROM fields WHERE id = ?", Integer.class, field.getId());
+    }
+
+    private long nextval(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+    }
+}
@@ -0,0 +1,99 @@
+package org.system.citronix.registry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.system.citronix.event.FarmDeletedEvent;
+import org.system.citronix.event.FarmSavedEvent;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.projection.FarmSearchEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class FarmSearchIndexTest {
+
+    private FarmRepository farmRepository;
+    private FarmSearchIndex farmSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        farmRepository = mock(FarmRepository.class);
+        farmSearchIndex = new FarmSearchIndex(farmRepository);
+
+        List<FarmSearchEntry> entries = List.of(
+                entry(1L, "Orange Valley", "Agadir"),
+                entry(2L, "Citrus Grove", "Béni Mellal"),
+                entry(3L, "Green Orange Farm", "Marrakech"),
+                entry(4L, "Sunrise", "Orangeville"));
+        when(farmRepository.findAllSearchEntries()).thenReturn(entries);
+    }
+
+    @Test
+    @DisplayName("Should rank name prefix above word prefix and location matches")
+    void shouldRankPrefixMatches() {
+        farmSearchIndex.load();
+
+        assertThat(farmSearchIndex.isReady()).isTrue();
+        assertThat(farmSearchIndex.search("oran"))
+                .extracting(FarmSearchIndex.Match::farmId)
+                .containsExactly(1L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should match misspelled and unaccented queries")
+    void shouldMatchTyposAndAccents() {
+        farmSearchIndex.load();
+
+        assertThat(farmSearchIndex.search("citrux grove"))
+                .extracting(FarmSearchIndex.Match::farmId)
+                .containsExactly(2L);
+        assertThat(farmSearchIndex.search("beni"))
+                .extracting(FarmSearchIndex.Match::farmId)
+                .containsExactly(2L);
+        assertThat(farmSearchIndex.search("zzz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep postings current on save and delete")
+    void shouldApplyWriteEvents() {
+        farmSearchIndex.load();
+
+        farmSearchIndex.onFarmSaved(new FarmSavedEvent(1L, "Lemon Hill", "Agadir", 10.0));
+        assertThat(farmSearchIndex.search("orange valley")).extracting(FarmSearchIndex.Match::farmId)
+                .doesNotContain(1L);
+        assertThat(farmSearchIndex.search("lemon")).extracting(FarmSearchIndex.Match::farmId)
+                .containsExactly(1L);
+
+        farmSearchIndex.onFarmDeleted(new FarmDeletedEvent(1L));
+        assertThat(farmSearchIndex.search("lemon")).isEmpty();
+        assertThat(farmSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should replay updates committed while loading")
+    void shouldReplayUpdatesCommittedWhileLoading() {
+        farmSearchIndex.onFarmSaved(new FarmSavedEvent(5L, "Lemon Hill", "Agadir", 10.0));
+        farmSearchIndex.onFarmDeleted(new FarmDeletedEvent(4L));
+        assertThat(farmSearchIndex.isReady()).isFalse();
+
+        farmSearchIndex.load();
+
+        // Farm 4 was in the snapshot, farm 5 was not
+        assertThat(farmSearchIndex.size()).isEqualTo(4);
+        assertThat(farmSearchIndex.search("lemon")).extracting(FarmSearchIndex.Match::farmId)
+                .containsExactly(5L);
+        assertThat(farmSearchIndex.search("sunrise")).isEmpty();
+    }
+
+    private FarmSearchEntry entry(Long id, String name, String location) {
+        FarmSearchEntry entry = mock(FarmSearchEntry.class);
+        when(entry.getId()).thenReturn(id);
+        when(entry.getName()).thenReturn(name);
+        when(entry.getLocation()).thenReturn(location);
+        when(entry.getArea()).thenReturn(10.0);
+        return entry;
+    }
+}
@@ -0,0 +1,87 @@
+package org.system.citronix.registry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.system.citronix.event.FieldsDeletedEvent;
+import org.system.citronix.event.TreesPlantedEvent;
+import org.system.citronix.event.TreesRemovedEvent;
+import org.system.citronix.repository.TreePlantingRepository;
+import org.system.citronix.repository.TreePlantingRepository.TreeRowHandler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TreeRegistryTest {
+
+    private final LocalDate baseDate = LocalDate.of(2024, 4, 1);
+    private TreePlantingRepository treePlantingRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TreeRegistry treeRegistry;
+
+    @BeforeEach
+    void setUp() {
+        treePlantingRepository = mock(TreePlantingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        treeRegistry = new TreeRegistry(treePlantingRepository, meterRegistry);
+
+        doAnswer(invocation -> {
+            TreeRowHandler handler = invocation.getArgument(0);
+            handler.accept(1L, 10L, (int) baseDate.minusYears(12).toEpochDay());
+            handler.accept(2L, 10L, (int) baseDate.minusYears(5).toEpochDay());
+            handler.accept(3L, 10L, (int) baseDate.minusYears(5).toEpochDay());
+            handler.accept(4L, 20L, (int) baseDate.toEpochDay());
+            return null;
+        }).when(treePlantingRepository).forEachTree(any(TreeRowHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should answer counts and age histogram from loaded arrays")
+    void shouldAnswerCountsAndHistogram() {
+        treeRegistry.load();
+
+        assertThat(treeRegistry.isReady()).isTrue();
+        assertThat(treeRegistry.countTrees(10L)).isEqualTo(3L);
+        assertThat(treeRegistry.countTrees(30L)).isZero();
+        assertThat(treeRegistry.countPlantedInPeriod(10L, baseDate.minusYears(6), baseDate.minusYears(5))).isEqualTo(2L);
+        assertThat(treeRegistry.ageHistogram(10L, baseDate)).containsExactly(
+                entry(5, 2L),
+                entry(12, 1L));
+        assertThat(meterRegistry.get("citronix.tree.registry.trees").gauge().value()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("citronix.tree.registry.memory").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep sorted arrays current on plant, remove and field deletion")
+    void shouldApplyWriteEvents() {
+        treeRegistry.load();
+
+        treeRegistry.onTreesPlanted(new TreesPlantedEvent(10L, List.of(5L, 1L), List.of(baseDate.minusYears(20), baseDate)));
+        assertThat(treeRegistry.countTrees(10L)).isEqualTo(4L);
+        assertThat(treeRegistry.countPlantedInPeriod(10L, baseDate.minusYears(21), baseDate.minusYears(19))).isEqualTo(1L);
+
+        treeRegistry.onTreesRemoved(new TreesRemovedEvent(10L, List.of(2L, 3L)));
+        assertThat(treeRegistry.countTrees(10L)).isEqualTo(2L);
+
+        treeRegistry.onFieldsDeleted(new FieldsDeletedEvent(List.of(10L, 20L)));
+        assertThat(treeRegistry.treeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replay updates committed while loading")
+    void shouldReplayUpdatesCommittedWhileLoading() {
+        treeRegistry.onTreesPlanted(new TreesPlantedEvent(20L, List.of(4L, 6L), List.of(baseDate, baseDate)));
+        assertThat(treeRegistry.isReady()).isFalse();
+
+        treeRegistry.load();
+
+        // Tree 4 was already in the snapshot, tree 6 was not
+        assertThat(treeRegistry.countTrees(20L)).isEqualTo(2L);
+    }
+}
@@ -5,9 +5,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Harvest;
+import org.system.citronix.entity.HarvestDetail;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.SeasonEnum;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -23,6 +29,21 @@ class FarmRepositoryTest {
     @Autowired
     private FarmRepository farmRepository;
 
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private TreeRepository treeRepository;
+
+    @Autowired
+    private HarvestRepository harvestRepository;
+
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Farm testFarm;
     private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
 
@@ -194,4 +215,136 @@ class FarmRepositoryTest {
         Optional<Farm> deletedFarm = farmRepository.findById(savedFarm.getId());
         assertThat(deletedFarm).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page farms after cursor in ID order")
+    void shouldPageFarmsAfterCursor() {
+        List<Farm> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            saved.add(farmRepository.save(Farm.builder()
+                    .name("Farm " + i)
+                    .location("Test Location")
+                    .area(10.0)
+                    .creationDate(baseDate)
+                    .fields(new ArrayList<>())
+                    .build()));
+        }
+
+        List<Farm> page = farmRepository.findPageAfter(saved.get(0).getId(), PageRequest.of(0, 1));
+
+        assertThat(page).extracting(Farm::getId).containsExactly(saved.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should allocate farm area only within the farm area")
+    void shouldAllocateFarmAreaOnlyWithinFarmArea() {
+        Long farmId = farmRepository.save(testFarm).getId();
+
+        assertThat(farmRepository.allocateArea(farmId, 6.0)).isEqualTo(1);
+        assertThat(farmRepository.allocateArea(farmId, 5.0)).isZero();
+        assertThat(farmRepository.releaseArea(farmId, 2.0)).isEqualTo(1);
+        assertThat(farmRepository.allocateArea(farmId, 5.0)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(farmRepository.findById(farmId).orElseThrow().getAllocatedArea()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("Should match the search prefix literally")
+    void shouldMatchSearchPrefixLiterally() {
+        farmRepository.save(testFarm);
+        farmRepository.save(Farm.builder()
+                .name("100% Citrus")
+                .location("Agadir")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+
+        assertThat(farmRepository.findByNameOrLocationPrefix("%", PageRequest.of(0, 10))).isEmpty();
+        assertThat(farmRepository.findByNameOrLocationPrefix("_", PageRequest.of(0, 10))).isEmpty();
+        assertThat(farmRepository.findByNameOrLocationPrefix("100%", PageRequest.of(0, 10)))
+                .extracting(Farm::getName)
+                .containsExactly("100% Citrus");
+        assertThat(farmRepository.findByNameOrLocationPrefix("aga", PageRequest.of(0, 10)))
+                .extracting(Farm::getName)
+                .containsExactly("100% Citrus");
+    }
+
+    @Test
+    @DisplayName("Should not shrink a farm below its allocated area")
+    void shouldNotShrinkFarmBelowAllocatedArea() {
+        Long farmId = farmRepository.save(testFarm).getId();
+        farmRepository.allocateArea(farmId, 6.0);
+
+        assertThat(farmRepository.resizeArea(farmId, 5.0)).isZero();
+        assertThat(farmRepository.resizeArea(farmId, 6.0)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(farmRepository.findById(farmId).orElseThrow().getArea()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("Should recalculate allocated area from fields")
+    void shouldRecalculateAllocatedAreaFromFields() {
+        Farm savedFarm = farmRepository.save(testFarm);
+        fieldRepository.saveAll(List.of(
+                Field.builder().area(2.0).farm(savedFarm).trees(new ArrayList<>()).build(),
+                Field.builder().area(1.5).farm(savedFarm).trees(new ArrayList<>()).build()
+        ));
+        entityManager.flush();
+
+        assertThat(farmRepository.recalculateAllocatedArea(savedFarm.getId())).isEqualTo(1);
+        entityManager.clear();
+
+        Farm reloaded = farmRepository.findById(savedFarm.getId()).orElseThrow();
+        assertThat(reloaded.getAllocatedArea()).isEqualTo(3.5);
+        assertThat(reloaded.calculateLeftArea()).isEqualTo(6.5);
+    }
+
+    @Test
+    @DisplayName("Should delete a farm's rows table by table and leave other farms intact")
+    void shouldDeleteFarmRowsSetBased() {
+        Farm savedFarm = farmRepository.save(testFarm);
+        Farm otherFarm = farmRepository.save(Farm.builder()
+                .name("Other Farm")
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+        Harvest harvest = harvestRepository.save(Harvest.builder()
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(72.0)
+                .harvestDetails(new ArrayList<>())
+                .build());
+
+        List<Tree> trees = new ArrayList<>();
+        for (Farm farm : List.of(savedFarm, savedFarm, otherFarm)) {
+            Field field = fieldRepository.save(Field.builder().area(1.0).farm(farm).trees(new ArrayList<>()).build());
+            trees.add(treeRepository.save(Tree.builder().plantDate(baseDate.minusYears(5)).field(field).build()));
+            trees.add(treeRepository.save(Tree.builder().plantDate(baseDate.minusYears(5)).field(field).build()));
+        }
+        trees.forEach(tree -> harvestDetailRepository.save(
+                HarvestDetail.builder().harvest(harvest).tree(tree).quantity(12.0).build()));
+        entityManager.flush();
+
+        Long farmId = savedFarm.getId();
+        assertThat(harvestRepository.subtractDetailsByFarmId(farmId)).isEqualTo(1);
+        assertThat(harvestDetailRepository.deleteByFarmId(farmId)).isEqualTo(4);
+        assertThat(treeRepository.deleteByFarmId(farmId)).isEqualTo(4);
+        assertThat(fieldRepository.deleteByFarmId(farmId)).isEqualTo(2);
+        assertThat(farmRepository.deleteRowById(farmId)).isEqualTo(1);
+
+        assertThat(farmRepository.findById(farmId)).isEmpty();
+        assertThat(fieldRepository.findIdsByFarmId(otherFarm.getId())).hasSize(1);
+        assertThat(treeRepository.countTreesByFarmId(otherFarm.getId())).isEqualTo(2L);
+        assertThat(harvestDetailRepository.sumQuantityByHarvestId(harvest.getId())).isEqualTo(24.0);
+        entityManager.clear();
+        assertThat(harvestRepository.findById(harvest.getId()))
+                .get()
+                .extracting(Harvest::getTotalQuantity)
+                .isEqualTo(24.0);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
@@ -27,6 +28,9 @@ class FieldRepositoryTest {
     @Autowired
     private FarmRepository farmRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Farm testFarm;
     private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
 
@@ -217,4 +221,50 @@ class FieldRepositoryTest {
         Optional<Field> deletedField = fieldRepository.findById(savedField.getId());
         assertThat(deletedField).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reserve tree spaces only within field density")
+    void shouldReserveTreeSpacesOnlyWithinFieldDensity() {
+        Field field = fieldRepository.save(Field.builder()
+                .area(0.5) // 50 trees max
+                .farm(testFarm)
+                .trees(new ArrayList<>())
+                .build());
+        entityManager.flush();
+
+        assertThat(fieldRepository.incrementTreeCount(field.getId(), 49)).isEqualTo(1);
+        assertThat(fieldRepository.incrementTreeCount(field.getId(), 2)).isZero();
+        assertThat(fieldRepository.incrementTreeCount(field.getId(), 1)).isEqualTo(1);
+        fieldRepository.decrementTreeCount(field.getId(), 5);
+        entityManager.clear();
+
+        assertThat(fieldRepository.findById(field.getId()))
+                .get()
+                .extracting(Field::getTreeCount)
+                .isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should recalculate tree count from the trees of the field")
+    void shouldRecalculateTreeCount() {
+        Field field = Field.builder()
+                .area(2.0)
+                .farm(testFarm)
+                .treeCount(7)
+                .trees(new ArrayList<>())
+                .build();
+        field.getTrees().addAll(List.of(
+                Tree.builder().plantDate(baseDate).field(field).harvestDetails(new ArrayList<>()).build(),
+                Tree.builder().plantDate(baseDate).field(field).harvestDetails(new ArrayList<>()).build()));
+        field = fieldRepository.save(field);
+        entityManager.flush();
+
+        assertThat(fieldRepository.recalculateTreeCount(field.getId())).isEqualTo(1);
+        assertThat(fieldRepository.recalculateTreeCount(-1L)).isZero();
+
+        assertThat(fieldRepository.findById(field.getId()))
+                .get()
+                .extracting(Field::getTreeCount)
+                .isEqualTo(2);
+    }
+}
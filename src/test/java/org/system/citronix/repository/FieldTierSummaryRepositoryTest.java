@@ -0,0 +1,96 @@
+package org.system.citronix.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.FieldTierSummary;
+import org.system.citronix.enums.ProductivityTierEnum;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FieldTierSummaryRepositoryTest {
+
+    @Autowired
+    private FieldTierSummaryRepository fieldTierSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Farm testFarm;
+    private Field testField;
+
+    @BeforeEach
+    void setUp() {
+        testFarm = entityManager.persist(Farm.builder()
+                .name("Summary Farm")
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(LocalDate.of(2024, 1, 1))
+                .fields(new ArrayList<>())
+                .build());
+        testField = entityManager.persist(Field.builder()
+                .area(2.0)
+                .farm(testFarm)
+                .trees(new ArrayList<>())
+                .build());
+        entityManager.persist(FieldTierSummary.builder()
+                .field(testField)
+                .tier(ProductivityTierEnum.MATURE)
+                .treeCount(4)
+                .expectedQuantity(48.0)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should adjust tree count and expected quantity together")
+    void shouldAdjustTreeCountAndExpectedQuantity() {
+        int updated = fieldTierSummaryRepository.adjustTreeCount(testField.getId(), ProductivityTierEnum.MATURE, -1L, 12.0);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        List<FieldTierSummary> rows = fieldTierSummaryRepository.findByFarmId(testFarm.getId());
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getTreeCount()).isEqualTo(3L);
+        assertThat(rows.get(0).getExpectedQuantity()).isEqualTo(36.0);
+    }
+
+    @Test
+    @DisplayName("Should report no update for a missing tier row")
+    void shouldReportNoUpdateForMissingTierRow() {
+        int updated = fieldTierSummaryRepository.adjustTreeCount(testField.getId(), ProductivityTierEnum.OLD, 1L, 20.0);
+
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("Should insert an empty tier row only when it is missing")
+    void shouldInsertEmptyTierRowOnlyWhenMissing() {
+        assertThat(fieldTierSummaryRepository.insertEmptyRowIfMissing(testField.getId(), "OLD")).isEqualTo(1);
+        assertThat(fieldTierSummaryRepository.insertEmptyRowIfMissing(testField.getId(), "OLD")).isZero();
+        assertThat(fieldTierSummaryRepository.insertEmptyRowIfMissing(testField.getId(), "MATURE")).isZero();
+
+        assertThat(fieldTierSummaryRepository.adjustTreeCount(testField.getId(), ProductivityTierEnum.OLD, 2L, 20.0)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(fieldTierSummaryRepository.findByFarmId(testFarm.getId()))
+                .filteredOn(row -> row.getTier() == ProductivityTierEnum.OLD)
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.getTreeCount()).isEqualTo(2L);
+                    assertThat(row.getExpectedQuantity()).isEqualTo(40.0);
+                });
+    }
+}
@@ -0,0 +1,218 @@
+package org.system.citronix.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.system.citronix.entity.*;
+import org.system.citronix.enums.SeasonEnum;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@Import(HarvestDetailBatchInsertTest.StatementCounterConfig.class)
+class HarvestDetailBatchInsertTest {
+
+    private static final int DETAIL_COUNT = 10_000;
+
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Autowired
+    private HarvestRepository harvestRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private TreeRepository treeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InsertRoundTripCounter counter;
+
+    @Value("${citronix.persistence.batch-size}")
+    private int batchSize;
+
+    private Harvest testHarvest;
+    private List<Tree> trees;
+    private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        Farm farm = farmRepository.save(Farm.builder()
+                .name("Batch Farm")
+                .location("Test Location")
+                .area(1000.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+
+        Field field = fieldRepository.save(Field.builder()
+                .area(200.0)
+                .farm(farm)
+                .trees(new ArrayList<>())
+                .build());
+
+        trees = new ArrayList<>(DETAIL_COUNT);
+        for (int i = 0; i < DETAIL_COUNT; i++) {
+            trees.add(Tree.builder()
+                    .plantDate(baseDate.minusYears(5))
+                    .field(field)
+                    .build());
+        }
+        trees = treeRepository.saveAll(trees);
+
+        testHarvest = harvestRepository.save(Harvest.builder()
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(0.0)
+                .harvestDetails(new ArrayList<>())
+                .build());
+
+        entityManager.flush();
+        counter.reset();
+    }
+
+    @Test
+    @DisplayName("Should insert harvest details in JDBC batches")
+    void shouldInsertHarvestDetailsInJdbcBatches() {
+        List<HarvestDetail> details = trees.stream()
+                .map(tree -> HarvestDetail.builder()
+                        .harvest(testHarvest)
+                        .tree(tree)
+                        .quantity(12.0)
+                        .build())
+                .toList();
+
+        harvestDetailRepository.saveAll(details);
+        entityManager.flush();
+
+        int expectedRoundTrips = (DETAIL_COUNT + batchSize - 1) / batchSize;
+        assertThat(counter.count("harvest_details")).isBetween(expectedRoundTrips, expectedRoundTrips + 1);
+        assertThat(harvestDetailRepository.sumQuantityByHarvestId(testHarvest.getId()))
+                .isEqualTo(DETAIL_COUNT * 12.0);
+    }
+
+    /**
+     * Counts JDBC executions of INSERT statements per table. A batched statement counts once
+     * per executeBatch call, which is one round trip to the database.
+     */
+    static class InsertRoundTripCounter {
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        void record(String sql) {
+            String normalized = sql.trim().toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("insert into ")) {
+                String table = normalized.substring("insert into ".length()).split("[\\s(]")[0];
+                counts.computeIfAbsent(table, key -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        int count(String table) {
+            AtomicInteger count = counts.get(table);
+            return count != null ? count.get() : 0;
+        }
+
+        void reset() {
+            counts.clear();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+        private static final Set<String> EXECUTE_METHODS = Set.of(
+                "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+        );
+
+        @Bean
+        InsertRoundTripCounter insertRoundTripCounter() {
+            return new InsertRoundTripCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(
+                ObjectProvider<InsertRoundTripCounter> counter
+        ) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                            Object result = method.invoke(target, args);
+                            if (result instanceof Connection connection) {
+                                return proxyConnection(connection, counter.getObject());
+                            }
+                            return result;
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection proxyConnection(Connection connection, InsertRoundTripCounter counter) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (result instanceof PreparedStatement statement
+                        && args != null && args.length > 0 && args[0] instanceof String sql) {
+                    return proxy(PreparedStatement.class, statement, (stmt, stmtMethod, stmtArgs) -> {
+                        if (EXECUTE_METHODS.contains(stmtMethod.getName()) && (stmtArgs == null || stmtArgs.length == 0)) {
+                            counter.record(sql);
+                        }
+                        return stmtMethod.invoke(stmt, stmtArgs);
+                    });
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, TargetHandler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> {
+                try {
+                    return handler.invoke(target, method, args);
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(StatementCounterConfig.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        @FunctionalInterface
+        private interface TargetHandler<T> {
+            Object invoke(T target, Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -239,6 +240,44 @@ class HarvestDetailRepositoryTest {
         assertThat(notExists).isFalse();
     }
 
+    @Test
+    @DisplayName("Should find harvested tree IDs by field and farm for a season")
+    void shouldFindHarvestedTreeIdsByFieldAndFarm() {
+        Tree anotherTree = Tree.builder()
+                .plantDate(baseDate)
+                .field(testField)
+                .harvestDetails(new ArrayList<>())
+                .build();
+        anotherTree = treeRepository.save(anotherTree);
+
+        harvestDetailRepository.save(HarvestDetail.builder()
+                .harvest(testHarvest)
+                .tree(testTree)
+                .quantity(10.0)
+                .build());
+
+        Set<Long> byField = harvestDetailRepository.findHarvestedTreeIdsByFieldId(
+                testField.getId(),
+                SeasonEnum.WINTER,
+                baseDate.getYear()
+        );
+        Set<Long> byFarm = harvestDetailRepository.findHarvestedTreeIdsByFarmId(
+                testFarm.getId(),
+                SeasonEnum.WINTER,
+                baseDate.getYear()
+        );
+        Set<Long> otherSeason = harvestDetailRepository.findHarvestedTreeIdsByFarmId(
+                testFarm.getId(),
+                SeasonEnum.SPRING,
+                baseDate.getYear()
+        );
+
+        assertThat(byField).containsExactly(testTree.getId());
+        assertThat(byFarm).containsExactly(testTree.getId());
+        assertThat(byFarm).doesNotContain(anotherTree.getId());
+        assertThat(otherSeason).isEmpty();
+    }
+
     @Test
     @DisplayName("Should delete harvest detail")
     void shouldDeleteHarvestDetail() {
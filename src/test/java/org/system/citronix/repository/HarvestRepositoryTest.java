@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.system.citronix.entity.*;
 import org.system.citronix.enums.SeasonEnum;
@@ -32,6 +33,9 @@ class HarvestRepositoryTest {
     @Autowired
     private TreeRepository treeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private final LocalDate baseDate = LocalDate.of(2024, 1, 1); // Winter
     private final LocalDate springDate = LocalDate.of(2024, 4, 1); // Spring
     private final LocalDate summerDate = LocalDate.of(2024, 7, 1); // Summer
@@ -308,6 +312,74 @@ class HarvestRepositoryTest {
         assertThat(exists).isTrue();
     }
 
+    @Test
+    @DisplayName("Should increment and overwrite total quantity in place")
+    void shouldIncrementAndOverwriteTotalQuantity() {
+        Harvest harvest = harvestRepository.save(Harvest.builder()
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(10.0)
+                .harvestDetails(new ArrayList<>())
+                .sales(null)
+                .build());
+        entityManager.flush();
+
+        harvestRepository.incrementTotalQuantity(harvest.getId(), 12.0);
+        harvestRepository.incrementTotalQuantity(harvest.getId(), -2.5);
+        entityManager.clear();
+
+        assertThat(harvestRepository.findById(harvest.getId()))
+                .get()
+                .extracting(Harvest::getTotalQuantity)
+                .isEqualTo(19.5);
+
+        harvestRepository.updateTotalQuantity(harvest.getId(), 4.0);
+        entityManager.clear();
+
+        assertThat(harvestRepository.findById(harvest.getId()))
+                .get()
+                .extracting(Harvest::getTotalQuantity)
+                .isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should take a deleted tree's quantities off the harvest total")
+    void shouldSubtractDetailsOfDeletedTree() {
+        Farm farm = farmRepository.save(Farm.builder()
+                .name("Harvest Farm")
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+        Field field = fieldRepository.save(Field.builder().area(1.0).farm(farm).trees(new ArrayList<>()).build());
+        Tree harvested = treeRepository.save(Tree.builder().plantDate(baseDate.minusYears(5)).field(field).build());
+        Tree kept = treeRepository.save(Tree.builder().plantDate(baseDate.minusYears(5)).field(field).build());
+        Harvest harvest = harvestRepository.save(Harvest.builder()
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(30.0)
+                .harvestDetails(new ArrayList<>())
+                .build());
+        entityManager.persist(HarvestDetail.builder().harvest(harvest).tree(harvested).quantity(10.0).build());
+        entityManager.persist(HarvestDetail.builder().harvest(harvest).tree(kept).quantity(20.0).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(harvestRepository.subtractDetailsByTreeId(harvested.getId())).isEqualTo(1);
+        treeRepository.delete(treeRepository.findById(harvested.getId()).orElseThrow());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(harvestRepository.findById(harvest.getId()))
+                .get()
+                .extracting(Harvest::getTotalQuantity)
+                .isEqualTo(20.0);
+        assertThat(harvestRepository.findByIdWithDetails(harvest.getId()).orElseThrow().getHarvestDetails())
+                .extracting(HarvestDetail::getQuantity)
+                .containsExactly(20.0);
+    }
+
     @Test
     @DisplayName("Should delete harvest")
     void shouldDeleteHarvest() {
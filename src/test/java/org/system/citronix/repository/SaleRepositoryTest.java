@@ -26,6 +26,18 @@ class SaleRepositoryTest {
     @Autowired
     private HarvestRepository harvestRepository;
 
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private TreeRepository treeRepository;
+
     private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
     private final double testQuantity = 100.0;
     private final double testUnitPrice = 2.5;
@@ -196,4 +208,44 @@ class SaleRepositoryTest {
         Optional<Sale> deletedSale = saleRepository.findById(savedSale.getId());
         assertThat(deletedSale).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should split sale revenue and harvested quantity by farm")
+    void shouldSplitSaleRevenueAndHarvestedQuantityByFarm() {
+        Tree firstTree = createTreeOnNewFarm("First Farm");
+        Tree secondTree = createTreeOnNewFarm("Second Farm");
+        Harvest harvest = createAndSaveHarvest(0);
+        harvestDetailRepository.saveAll(List.of(
+                HarvestDetail.builder().harvest(harvest).tree(firstTree).quantity(40.0).build(),
+                HarvestDetail.builder().harvest(harvest).tree(secondTree).quantity(60.0).build()
+        ));
+        saleRepository.save(createSale(harvest, "Customer", baseDate.plusDays(1), testUnitPrice));
+
+        Long firstFarmId = firstTree.getField().getFarm().getId();
+        assertThat(saleRepository.calculateFarmRevenueBetweenDates(firstFarmId, baseDate, baseDate.plusDays(5)))
+                .isEqualTo(40.0 * testUnitPrice);
+        assertThat(saleRepository.calculateFarmRevenueBetweenDates(firstFarmId, baseDate.plusDays(2), baseDate.plusDays(5)))
+                .isZero();
+        assertThat(harvestDetailRepository.sumQuantityByFarmIdAndSeasonAndYear(firstFarmId, SeasonEnum.WINTER, 2024))
+                .isEqualTo(40.0);
+    }
+
+    private Tree createTreeOnNewFarm(String name) {
+        Farm farm = farmRepository.save(Farm.builder()
+                .name(name)
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+        Field field = fieldRepository.save(Field.builder()
+                .area(2.0)
+                .farm(farm)
+                .trees(new ArrayList<>())
+                .build());
+        return treeRepository.save(Tree.builder()
+                .plantDate(baseDate.minusYears(5))
+                .field(field)
+                .build());
+    }
+}
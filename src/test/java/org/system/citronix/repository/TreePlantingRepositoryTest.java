@@ -0,0 +1,65 @@
+package org.system.citronix.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.repository.projection.TreePlantings;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TreePlantingRepository.class)
+class TreePlantingRepositoryTest {
+
+    @Autowired
+    private TreePlantingRepository treePlantingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("Should load plant dates grouped by field and sorted by date")
+    void shouldLoadPlantDatesGroupedByField() {
+        Farm farm = entityManager.persist(Farm.builder()
+                .name("Forecast Farm")
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(baseDate)
+                .fields(new ArrayList<>())
+                .build());
+        Field planted = entityManager.persist(Field.builder().area(2.0).farm(farm).trees(new ArrayList<>()).build());
+        Field empty = entityManager.persist(Field.builder().area(1.0).farm(farm).trees(new ArrayList<>()).build());
+        entityManager.persist(Tree.builder().plantDate(baseDate.minusYears(2)).field(planted).build());
+        entityManager.persist(Tree.builder().plantDate(baseDate.minusYears(12)).field(planted).build());
+        entityManager.flush();
+
+        TreePlantings plantings = treePlantingRepository.findPlantingsByFarmId(farm.getId());
+
+        assertThat(plantings.fieldCount()).isEqualTo(2);
+        assertThat(plantings.treeCount()).isEqualTo(2);
+        assertThat(new long[]{plantings.fieldId(0), plantings.fieldId(1)})
+                .containsExactlyInAnyOrder(planted.getId(), empty.getId());
+
+        int plantedIndex = plantings.fieldId(0) == planted.getId() ? 0 : 1;
+        int[] days = Arrays.copyOfRange(plantings.getPlantEpochDays(),
+                plantings.fieldStart(plantedIndex), plantings.fieldEnd(plantedIndex));
+        assertThat(days).containsExactly(
+                (int) baseDate.minusYears(12).toEpochDay(),
+                (int) baseDate.minusYears(2).toEpochDay());
+        assertThat(plantings.fieldEnd(1 - plantedIndex) - plantings.fieldStart(1 - plantedIndex)).isZero();
+    }
+}
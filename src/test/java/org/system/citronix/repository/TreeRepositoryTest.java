@@ -5,16 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Harvest;
 import org.system.citronix.entity.Tree;
 import org.system.citronix.entity.HarvestDetail;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.repository.projection.FieldTierCount;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,6 +37,12 @@ class TreeRepositoryTest {
     @Autowired
     private FarmRepository farmRepository;
 
+    @Autowired
+    private HarvestRepository harvestRepository;
+
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
     private Farm testFarm;
     private Field testField;
     private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
@@ -228,6 +240,116 @@ class TreeRepositoryTest {
         assertThat(farmTrees).hasSize(3);
     }
 
+    @Test
+    @DisplayName("Should count trees per field and productivity tier")
+    void shouldCountTreesPerFieldAndTier() {
+        LocalDate previewDate = LocalDate.of(2024, 6, 1);
+        treeRepository.saveAll(List.of(
+                Tree.builder().plantDate(previewDate.minusYears(1)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.minusYears(3)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.minusYears(11)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.minusYears(25)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.plusDays(1)).field(testField).build()
+        ));
+
+        List<FieldTierCount> counts = treeRepository.countTreesByFieldAndTier(
+                testFarm.getId(),
+                previewDate,
+                ProductivityTierEnum.MATURE.plantedOnOrBefore(previewDate),
+                ProductivityTierEnum.OLD.plantedOnOrBefore(previewDate),
+                ProductivityTierEnum.RETIRED.plantedOnOrBefore(previewDate)
+        );
+
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getFieldId()).isEqualTo(testField.getId());
+        assertThat(counts.get(0).getYoungTrees()).isEqualTo(1L);
+        assertThat(counts.get(0).getMatureTrees()).isEqualTo(1L);
+        assertThat(counts.get(0).getOldTrees()).isEqualTo(1L);
+        assertThat(counts.get(0).getRetiredTrees()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should count the trees a harvest would cover, skipping ones harvested in the season")
+    void shouldCountHarvestableTreesPerFieldAndTier() {
+        LocalDate previewDate = LocalDate.of(2024, 1, 15);
+        List<Tree> trees = treeRepository.saveAll(List.of(
+                Tree.builder().plantDate(previewDate.minusYears(5)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.minusYears(5)).field(testField).build(),
+                Tree.builder().plantDate(previewDate.plusDays(1)).field(testField).build()
+        ));
+        Harvest earlierHarvest = harvestRepository.save(Harvest.builder()
+                .date(previewDate.minusDays(10))
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(12.0)
+                .harvestDetails(new ArrayList<>())
+                .build());
+        harvestDetailRepository.save(HarvestDetail.builder()
+                .harvest(earlierHarvest)
+                .tree(trees.get(0))
+                .quantity(12.0)
+                .build());
+
+        List<FieldTierCount> counts = treeRepository.countHarvestableTreesByFieldAndTier(
+                testFarm.getId(),
+                SeasonEnum.WINTER,
+                previewDate.getYear(),
+                ProductivityTierEnum.MATURE.plantedOnOrBefore(previewDate),
+                ProductivityTierEnum.OLD.plantedOnOrBefore(previewDate),
+                ProductivityTierEnum.RETIRED.plantedOnOrBefore(previewDate)
+        );
+
+        // The tree planted after the date is still harvested, as young
+        assertThat(counts).singleElement().satisfies(count -> {
+            assertThat(count.getYoungTrees()).isEqualTo(1L);
+            assertThat(count.getMatureTrees()).isEqualTo(1L);
+            assertThat(count.getOldTrees()).isZero();
+            assertThat(count.getRetiredTrees()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should find trees by plant date thresholds")
+    void shouldFindTreesByPlantDateThresholds() {
+        treeRepository.saveAll(List.of(
+                Tree.builder().plantDate(baseDate.minusYears(2)).field(testField).build(),
+                Tree.builder().plantDate(baseDate.minusYears(5)).field(testField).build(),
+                Tree.builder().plantDate(baseDate.minusYears(15)).field(testField).build()
+        ));
+
+        assertThat(treeRepository.findTreesPlantedOnOrBefore(baseDate.minusYears(3))).hasSize(2);
+        assertThat(treeRepository.findTreesPlantedAfterAndOnOrBefore(baseDate.minusYears(11), baseDate.minusYears(3)))
+                .extracting(Tree::getPlantDate)
+                .containsExactly(baseDate.minusYears(5));
+    }
+
+    @Test
+    @DisplayName("Should page and stream field trees within a plant date band")
+    void shouldPageAndStreamFieldTreesWithinPlantDateBand() {
+        List<Tree> trees = treeRepository.saveAll(List.of(
+                Tree.builder().plantDate(baseDate.minusYears(2)).field(testField).build(),
+                Tree.builder().plantDate(baseDate.minusYears(5)).field(testField).build(),
+                Tree.builder().plantDate(baseDate.minusYears(6)).field(testField).build(),
+                Tree.builder().plantDate(baseDate.minusYears(15)).field(testField).build()
+        ));
+        LocalDate plantedAfter = baseDate.minusYears(11);
+        LocalDate plantedOnOrBefore = baseDate.minusYears(3);
+
+        List<Tree> firstPage = treeRepository.findFieldPageAfter(
+                testField.getId(), 0L, plantedAfter, plantedOnOrBefore, PageRequest.of(0, 1));
+        List<Tree> secondPage = treeRepository.findFieldPageAfter(
+                testField.getId(), firstPage.get(0).getId(), plantedAfter, plantedOnOrBefore, PageRequest.of(0, 1));
+
+        assertThat(firstPage).extracting(Tree::getId).containsExactly(trees.get(1).getId());
+        assertThat(secondPage).extracting(Tree::getId).containsExactly(trees.get(2).getId());
+        assertThat(treeRepository.findFieldPageAfter(testField.getId(), 0L, null, null, PageRequest.of(0, 10)))
+                .hasSize(4);
+
+        try (Stream<Tree> streamed = treeRepository.streamByFieldId(testField.getId(), null, plantedOnOrBefore)) {
+            assertThat(streamed.map(Tree::getPlantDate))
+                    .containsExactly(baseDate.minusYears(5), baseDate.minusYears(6), baseDate.minusYears(15));
+        }
+    }
+
     @Test
     @DisplayName("Should delete tree")
     void shouldDeleteTree() {
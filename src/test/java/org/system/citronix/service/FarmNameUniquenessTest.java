@@ -0,0 +1,145 @@
+package org.system.citronix.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.system.citronix.dto.request.FarmRequest;
+import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.exception.GlobalExceptionHandler;
+import org.system.citronix.exception.response.ErrorResponse;
+import org.system.citronix.mapper.FarmMapperImpl;
+import org.system.citronix.mapper.FieldMapperImpl;
+import org.system.citronix.registry.FarmSearchIndex;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.service.impl.FarmServiceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Creates the same farm from several threads at once, each in its own committed transaction, and
+ * checks that the unique name constraint lets exactly one of them through. Also checks how the
+ * exception handler reports a violation of that constraint compared with other integrity errors.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({FarmServiceImpl.class, FarmMapperImpl.class, FieldMapperImpl.class, FarmSearchIndex.class})
+class FarmNameUniquenessTest {
+
+    private static final int CONCURRENT_CREATES = 8;
+    private static final String FARM_NAME = "Race Farm";
+
+    @Autowired
+    private FarmService farmService;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+    private final WebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/farms"));
+
+    @AfterEach
+    void tearDown() {
+        farmRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several concurrent creates with the same name win")
+    void shouldLetExactlyOneConcurrentCreateWin() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CREATES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<FarmResponse>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CREATES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return farmService.createFarm(farmRequest());
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<FarmResponse> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException exception) {
+                    failures.add(exception.getCause());
+                }
+            }
+
+            assertThat(created).isEqualTo(1);
+            assertThat(failures).hasSize(CONCURRENT_CREATES - 1)
+                    .allSatisfy(failure -> assertThat(failure).isInstanceOf(DataAccessException.class));
+            assertThat(farmRepository.findAll())
+                    .extracting(Farm::getName)
+                    .containsExactly(FARM_NAME);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate farm name as a validation error")
+    void shouldReportDuplicateNameAsValidationError() {
+        farmService.createFarm(farmRequest());
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> farmService.createFarm(farmRequest()));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().message()).isEqualTo("The name already exists");
+    }
+
+    @Test
+    @DisplayName("Should keep reporting other integrity violations as conflicts")
+    void shouldReportOtherViolationsAsConflict() {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO farms (name) VALUES (?)", FARM_NAME));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().message()).startsWith("Database error:");
+    }
+
+    private FarmRequest farmRequest() {
+        return FarmRequest.builder()
+                .name(FARM_NAME)
+                .location("Test Location")
+                .area(10.0)
+                .creationDate(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
@@ -7,9 +7,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.citronix.dto.request.HarvestDetailBatchRequest;
 import org.system.citronix.dto.request.HarvestDetailRequest;
+import org.system.citronix.dto.response.HarvestDetailBatchResponse;
 import org.system.citronix.dto.response.HarvestDetailResponse;
+import org.system.citronix.dto.response.HarvestGenerationSummaryResponse;
+import org.system.citronix.dto.response.TreeHarvestResult;
 import org.system.citronix.entity.*;
+import org.system.citronix.enums.HarvestSkipReasonEnum;
+import org.system.citronix.enums.HarvestStrategyEnum;
 import org.system.citronix.enums.SeasonEnum;
 import org.system.citronix.exception.BusinessException;
 import org.system.citronix.mapper.HarvestDetailMapper;
@@ -21,11 +31,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +64,12 @@ class HarvestDetailServiceImplTest {
     @Mock
     private HarvestDetailMapper harvestDetailMapper;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskExecutor harvestGenerationExecutor;
+
     @InjectMocks
     private HarvestDetailServiceImpl harvestDetailService;
 
@@ -151,8 +172,8 @@ class HarvestDetailServiceImplTest {
 
         when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
         when(fieldRepository.findByIdWithTrees(anyLong())).thenReturn(testField);
-        when(harvestDetailRepository.existsByTreeIdAndHarvestSeasonAndYear(anyLong(), any(SeasonEnum.class), anyInt()))
-                .thenReturn(false);
+        when(harvestDetailRepository.findHarvestedTreeIdsByFieldId(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of());
         when(harvestDetailRepository.saveAll(anyList())).thenReturn(Arrays.asList(testHarvestDetail));
         when(harvestDetailMapper.toResponse(any(HarvestDetail.class))).thenReturn(testHarvestDetailResponse);
 
@@ -172,8 +193,8 @@ class HarvestDetailServiceImplTest {
         when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
         when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
         when(treeRepository.findAllTreesByFarmId(anyLong())).thenReturn(Arrays.asList(testTree));
-        when(harvestDetailRepository.existsByTreeIdAndHarvestSeasonAndYear(
-                anyLong(), any(SeasonEnum.class), anyInt())).thenReturn(false);
+        when(harvestDetailRepository.findHarvestedTreeIdsByFarmId(
+                anyLong(), any(SeasonEnum.class), anyInt())).thenReturn(Set.of());
         when(harvestDetailRepository.saveAll(anyList())).thenReturn(Arrays.asList(testHarvestDetail));
         doReturn(testHarvestDetailResponse)
                 .when(harvestDetailMapper)
@@ -185,6 +206,159 @@ class HarvestDetailServiceImplTest {
         verify(harvestDetailRepository).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("Should skip trees already harvested in season using a single lookup")
+    void shouldSkipAlreadyHarvestedTreesUsingSingleLookup() {
+        Tree harvestedTree = Tree.builder()
+                .id(2L)
+                .field(testField)
+                .plantDate(baseDate.minusYears(5))
+                .build();
+        testFarm.setFields(Arrays.asList(testField));
+
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
+        when(treeRepository.findAllTreesByFarmId(anyLong())).thenReturn(Arrays.asList(testTree, harvestedTree));
+        when(harvestDetailRepository.findHarvestedTreeIdsByFarmId(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of(2L));
+        when(harvestDetailRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doReturn(testHarvestDetailResponse)
+                .when(harvestDetailMapper)
+                .toResponse(any(HarvestDetail.class));
+
+        List<HarvestDetailResponse> responses = harvestDetailService.createHarvestDetailsForFarm(1L, 1L);
+
+        assertThat(responses).hasSize(1);
+        verify(harvestDetailRepository, never())
+                .existsByTreeIdAndHarvestSeasonAndYear(anyLong(), any(SeasonEnum.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return a summary without mapping harvest details")
+    void shouldReturnSummaryWithoutMappingDetails() {
+        Tree harvestedTree = Tree.builder()
+                .id(2L)
+                .field(testField)
+                .plantDate(baseDate.minusYears(5))
+                .build();
+        testFarm.setFields(Arrays.asList(testField));
+
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
+        when(treeRepository.findAllTreesByFarmId(anyLong())).thenReturn(Arrays.asList(testTree, harvestedTree));
+        when(harvestDetailRepository.findHarvestedTreeIdsByFarmId(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of(2L));
+        when(harvestDetailRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        runTransactionsInline();
+
+        HarvestGenerationSummaryResponse summary = harvestDetailService.summarizeHarvestDetailsForFarm(1L, 1L, HarvestStrategyEnum.JAVA);
+
+        assertThat(summary.getEvaluatedTrees()).isEqualTo(2);
+        assertThat(summary.getCreatedDetails()).isEqualTo(1);
+        assertThat(summary.getSkippedTrees()).isEqualTo(1);
+        assertThat(summary.getTotalQuantityAdded()).isEqualTo(2.5);
+        assertThat(summary.getSkippedByReason()).containsEntry(HarvestSkipReasonEnum.ALREADY_HARVESTED, 1L);
+        verify(harvestRepository).incrementTotalQuantity(1L, 2.5);
+        verifyNoInteractions(harvestDetailMapper);
+    }
+
+    @Test
+    @DisplayName("Should generate fields in parallel and increment the harvest total once")
+    void shouldGenerateFieldsInParallelAndIncrementTotalOnce() {
+        Field secondField = Field.builder().id(2L).area(1.0).farm(testFarm).build();
+        Tree secondTree = Tree.builder()
+                .id(2L)
+                .field(secondField)
+                .plantDate(baseDate.minusYears(5))
+                .build();
+        testFarm.setFields(Arrays.asList(testField, secondField));
+
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(harvestRepository.getReferenceById(1L)).thenReturn(testHarvest);
+        when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
+        when(treeRepository.findByFieldId(1L)).thenReturn(List.of(testTree));
+        when(treeRepository.findByFieldId(2L)).thenReturn(List.of(secondTree));
+        when(harvestDetailRepository.findHarvestedTreeIdsByFieldId(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of());
+        runTransactionsInline();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(harvestGenerationExecutor).execute(any(Runnable.class));
+
+        HarvestGenerationSummaryResponse summary =
+                harvestDetailService.summarizeHarvestDetailsForFarm(1L, 1L, HarvestStrategyEnum.PARALLEL);
+
+        assertThat(summary.getCreatedDetails()).isEqualTo(2);
+        assertThat(summary.getTotalQuantityAdded()).isEqualTo(2.5 + 12.0);
+        verify(harvestDetailRepository, times(2)).saveAll(anyList());
+        verify(harvestRepository, times(1)).incrementTotalQuantity(1L, 2.5 + 12.0);
+        assertThat(summary.getFailedFields()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report failed fields and keep the total of fields that committed")
+    void shouldReportFailedFieldsWhenParallelGenerationPartlyFails() {
+        Field secondField = Field.builder().id(2L).area(1.0).farm(testFarm).build();
+        testFarm.setFields(Arrays.asList(testField, secondField));
+
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(harvestRepository.getReferenceById(1L)).thenReturn(testHarvest);
+        when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
+        when(treeRepository.findByFieldId(1L)).thenReturn(List.of(testTree));
+        when(treeRepository.findByFieldId(2L)).thenThrow(new IllegalStateException("Connection lost"));
+        when(harvestDetailRepository.findHarvestedTreeIdsByFieldId(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of());
+        runTransactionsInline();
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(harvestGenerationExecutor).execute(any(Runnable.class));
+
+        HarvestGenerationSummaryResponse summary =
+                harvestDetailService.summarizeHarvestDetailsForFarm(1L, 1L, HarvestStrategyEnum.PARALLEL);
+
+        assertThat(summary.getCreatedDetails()).isEqualTo(1);
+        assertThat(summary.getTotalQuantityAdded()).isEqualTo(2.5);
+        assertThat(summary.getFailedFields()).containsExactly(entry(2L, "Connection lost"));
+        verify(harvestRepository).incrementTotalQuantity(1L, 2.5);
+    }
+
+    @Test
+    @DisplayName("Should report per-tree results when adding a batch of trees")
+    void shouldReportPerTreeResultsForBatch() {
+        Tree harvestedTree = Tree.builder()
+                .id(2L)
+                .field(testField)
+                .plantDate(baseDate.minusYears(5))
+                .build();
+        HarvestDetailBatchRequest request = HarvestDetailBatchRequest.builder()
+                .treeIds(List.of(1L, 2L, 3L, 1L))
+                .build();
+
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(treeRepository.findAllById(anySet())).thenReturn(List.of(testTree, harvestedTree));
+        when(harvestDetailRepository.findHarvestedTreeIdsAmong(anyCollection(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of(2L));
+
+        HarvestDetailBatchResponse response = harvestDetailService.createHarvestDetailsBatch(1L, request);
+
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(3);
+        assertThat(response.getTotalQuantityAdded()).isEqualTo(2.5);
+        assertThat(response.getResults())
+                .extracting(TreeHarvestResult::getReason)
+                .containsExactly(
+                        null,
+                        HarvestSkipReasonEnum.ALREADY_HARVESTED,
+                        HarvestSkipReasonEnum.TREE_NOT_FOUND,
+                        HarvestSkipReasonEnum.DUPLICATE_IN_REQUEST
+                );
+        verify(harvestDetailRepository).saveAll(anyList());
+        verify(harvestRepository).incrementTotalQuantity(1L, 2.5);
+    }
+
     @Test
     @DisplayName("Should get harvest details by harvest ID")
     void shouldGetHarvestDetailsByHarvestId() {
@@ -283,12 +457,48 @@ class HarvestDetailServiceImplTest {
                 .build();
 
         when(harvestDetailRepository.findById(anyLong())).thenReturn(Optional.of(detailWithHarvest));
-        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
         doNothing().when(harvestDetailRepository).deleteById(anyLong());
 
         harvestDetailService.deleteHarvestDetail(1L);
 
         verify(harvestDetailRepository).deleteById(1L);
-        verify(harvestRepository).save(any(Harvest.class));
+        verify(harvestRepository).incrementTotalQuantity(1L, -10.0);
+    }
+
+    @Test
+    @DisplayName("Should add the new detail quantity to the harvest total")
+    void shouldIncrementHarvestTotalWhenCreatingDetail() {
+        when(harvestRepository.findById(anyLong())).thenReturn(Optional.of(testHarvest));
+        when(treeRepository.findById(anyLong())).thenReturn(Optional.of(testTree));
+        when(harvestDetailRepository.existsByTreeIdAndHarvestSeasonAndYear(anyLong(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(false);
+        when(harvestDetailRepository.save(any(HarvestDetail.class))).thenReturn(testHarvestDetail);
+        when(harvestDetailMapper.toResponse(any(HarvestDetail.class))).thenReturn(testHarvestDetailResponse);
+
+        harvestDetailService.createHarvestDetail(1L, testHarvestDetailRequest);
+
+        verify(harvestRepository).incrementTotalQuantity(1L, 2.5);
+        verify(harvestRepository, never()).save(any(Harvest.class));
+    }
+
+    @Test
+    @DisplayName("Should reconcile harvest total from its details")
+    void shouldReconcileHarvestTotalFromDetails() {
+        when(harvestRepository.existsById(1L)).thenReturn(true);
+        when(harvestDetailRepository.sumQuantityByHarvestId(1L)).thenReturn(42.0);
+
+        Double total = harvestDetailService.reconcileTotalQuantity(1L);
+
+        assertThat(total).isEqualTo(42.0);
+        verify(harvestRepository).updateTotalQuantity(1L, 42.0);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package org.system.citronix.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.system.citronix.config.AsyncConfig;
+import org.system.citronix.dto.response.HarvestGenerationSummaryResponse;
+import org.system.citronix.entity.*;
+import org.system.citronix.enums.HarvestStrategyEnum;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.mapper.HarvestDetailMapperImpl;
+import org.system.citronix.repository.*;
+import org.system.citronix.service.impl.HarvestDetailServiceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Java and the INSERT ... SELECT farm harvest paths against two identical farms on the
+ * H2 PostgreSQL-mode database from the test profile and compares what they persisted.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({HarvestDetailServiceImpl.class, HarvestDetailMapperImpl.class, AsyncConfig.class})
+class HarvestGenerationStrategyEquivalenceTest {
+
+    @Autowired
+    private HarvestDetailService harvestDetailService;
+
+    @Autowired
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Autowired
+    private HarvestRepository harvestRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private FieldRepository fieldRepository;
+
+    @Autowired
+    private TreeRepository treeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate harvestDate = LocalDate.of(2024, 1, 15);
+    private Harvest harvest;
+    private Farm javaFarm;
+    private Farm sqlFarm;
+
+    @BeforeEach
+    void setUp() {
+        harvest = harvestRepository.save(harvest(harvestDate));
+        Harvest earlierHarvest = harvestRepository.save(harvest(harvestDate.minusDays(10)));
+        Harvest lastYearHarvest = harvestRepository.save(harvest(harvestDate.minusYears(1)));
+
+        javaFarm = createFarm("Java Farm", earlierHarvest, lastYearHarvest);
+        sqlFarm = createFarm("Sql Farm", earlierHarvest, lastYearHarvest);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should persist the same details with the Java and SQL strategies")
+    void shouldPersistSameDetailsWithJavaAndSqlStrategies() {
+        HarvestGenerationSummaryResponse javaSummary =
+                harvestDetailService.summarizeHarvestDetailsForFarm(harvest.getId(), javaFarm.getId(), HarvestStrategyEnum.JAVA);
+        HarvestGenerationSummaryResponse sqlSummary =
+                harvestDetailService.summarizeHarvestDetailsForFarm(harvest.getId(), sqlFarm.getId(), HarvestStrategyEnum.SQL);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(sqlSummary.getStrategy()).isEqualTo(HarvestStrategyEnum.SQL);
+        assertThat(sqlSummary.getEvaluatedTrees()).isEqualTo(javaSummary.getEvaluatedTrees());
+        assertThat(sqlSummary.getCreatedDetails()).isEqualTo(javaSummary.getCreatedDetails());
+        assertThat(sqlSummary.getSkippedByReason()).isEqualTo(javaSummary.getSkippedByReason());
+        assertThat(sqlSummary.getTotalQuantityAdded()).isEqualTo(javaSummary.getTotalQuantityAdded());
+
+        List<HarvestDetail> details = harvestDetailRepository.findByHarvestId(harvest.getId());
+        assertThat(quantitiesByPlantDate(details, sqlFarm)).isEqualTo(quantitiesByPlantDate(details, javaFarm));
+
+        Harvest reloaded = harvestRepository.findById(harvest.getId()).orElseThrow();
+        assertThat(reloaded.getTotalQuantity())
+                .isEqualTo(javaSummary.getTotalQuantityAdded() + sqlSummary.getTotalQuantityAdded());
+    }
+
+    private Map<LocalDate, Double> quantitiesByPlantDate(List<HarvestDetail> details, Farm farm) {
+        return details.stream()
+                .filter(detail -> detail.getTree().getField().getFarm().getId().equals(farm.getId()))
+                .collect(Collectors.toMap(detail -> detail.getTree().getPlantDate(), HarvestDetail::getQuantity));
+    }
+
+    private Farm createFarm(String name, Harvest earlierHarvest, Harvest lastYearHarvest) {
+        Farm farm = farmRepository.save(Farm.builder()
+                .name(name)
+                .location("Test Location")
+                .area(100.0)
+                .creationDate(harvestDate.minusYears(40))
+                .fields(new ArrayList<>())
+                .build());
+        farm.getFields().add(fieldRepository.save(Field.builder()
+                .area(10.0)
+                .farm(farm)
+                .trees(new ArrayList<>())
+                .build()));
+        Field field = farm.getFields().get(0);
+
+        // Ages on either side of every productivity band boundary, plus a tree planted after the harvest
+        List<LocalDate> plantDates = List.of(
+                harvestDate.plusMonths(1),
+                harvestDate.minusYears(1),
+                harvestDate.minusYears(3).plusDays(1),
+                harvestDate.minusYears(3),
+                harvestDate.minusYears(10),
+                harvestDate.minusYears(11).plusDays(1),
+                harvestDate.minusYears(11),
+                harvestDate.minusYears(20),
+                harvestDate.minusYears(21).plusDays(1),
+                harvestDate.minusYears(21),
+                harvestDate.minusYears(30)
+        );
+        List<Tree> trees = treeRepository.saveAll(plantDates.stream()
+                .map(plantDate -> Tree.builder().plantDate(plantDate).field(field).build())
+                .toList());
+
+        // Already harvested this season, and harvested in the same season last year
+        harvestDetailRepository.save(detail(earlierHarvest, trees.get(4)));
+        harvestDetailRepository.save(detail(lastYearHarvest, trees.get(5)));
+        return farm;
+    }
+
+    private Harvest harvest(LocalDate date) {
+        return Harvest.builder()
+                .date(date)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(0.0)
+                .harvestDetails(new ArrayList<>())
+                .build();
+    }
+
+    private HarvestDetail detail(Harvest harvest, Tree tree) {
+        return HarvestDetail.builder()
+                .harvest(harvest)
+                .tree(tree)
+                .quantity(1.0)
+                .build();
+    }
+}
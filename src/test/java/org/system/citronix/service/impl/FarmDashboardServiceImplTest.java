@@ -0,0 +1,117 @@
+package org.system.citronix.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.system.citronix.dto.response.FarmDashboardResponse;
+import org.system.citronix.entity.Farm;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.exception.ResourceNotFoundException;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.SaleRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTierCount;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FarmDashboardServiceImplTest {
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private FieldRepository fieldRepository;
+
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Spy
+    private TaskExecutor dashboardExecutor = new SyncTaskExecutor();
+
+    @InjectMocks
+    private FarmDashboardServiceImpl farmDashboardService;
+
+    private final LocalDate today = LocalDate.of(2024, 6, 1);
+
+    @Test
+    @DisplayName("Should combine the farm aggregates into one dashboard")
+    void shouldCombineFarmAggregatesIntoDashboard() {
+        Farm farm = Farm.builder()
+                .id(1L)
+                .name("Test Farm")
+                .area(10.0)
+                .allocatedArea(4.5)
+                .build();
+        when(farmRepository.findById(1L)).thenReturn(Optional.of(farm));
+        when(fieldRepository.countFieldsByFarmId(1L)).thenReturn(2L);
+        when(treeRepository.countTreesByFieldAndTier(eq(1L), eq(today), any(), any(), any()))
+                .thenReturn(List.of(tierCount(3, 10, 0, 1), tierCount(2, 0, 5, 0)));
+        when(harvestDetailRepository.sumQuantityByFarmIdAndSeasonAndYear(1L, SeasonEnum.SUMMER, 2024))
+                .thenReturn(250.0);
+        when(saleRepository.calculateFarmRevenueBetweenDates(1L, LocalDate.of(2024, 1, 1), today))
+                .thenReturn(1200.0);
+
+        FarmDashboardResponse dashboard = farmDashboardService.getDashboard(1L);
+
+        assertThat(dashboard.getFieldCount()).isEqualTo(2L);
+        assertThat(dashboard.getAllocatedArea()).isEqualTo(4.5);
+        assertThat(dashboard.getLeftArea()).isEqualTo(5.5);
+        assertThat(dashboard.getTotalTrees()).isEqualTo(21L);
+        assertThat(dashboard.getTreesByTier())
+                .containsEntry(ProductivityTierEnum.YOUNG, 5L)
+                .containsEntry(ProductivityTierEnum.MATURE, 10L)
+                .containsEntry(ProductivityTierEnum.OLD, 5L)
+                .containsEntry(ProductivityTierEnum.RETIRED, 1L);
+        assertThat(dashboard.getSeason()).isEqualTo(SeasonEnum.SUMMER);
+        assertThat(dashboard.getSeasonHarvestedQuantity()).isEqualTo(250.0);
+        assertThat(dashboard.getYearToDateRevenue()).isEqualTo(1200.0);
+        verify(dashboardExecutor, times(5)).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should throw when the farm does not exist")
+    void shouldThrowWhenFarmDoesNotExist() {
+        when(farmRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> farmDashboardService.getDashboard(99L));
+    }
+
+    private FieldTierCount tierCount(long young, long mature, long old, long retired) {
+        FieldTierCount count = mock(FieldTierCount.class);
+        when(count.getYoungTrees()).thenReturn(young);
+        when(count.getMatureTrees()).thenReturn(mature);
+        when(count.getOldTrees()).thenReturn(old);
+        when(count.getRetiredTrees()).thenReturn(retired);
+        return count;
+    }
+}
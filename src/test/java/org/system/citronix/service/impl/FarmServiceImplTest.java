@@ -4,17 +4,32 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.system.citronix.dto.request.FarmRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FarmResponse;
+import org.system.citronix.dto.response.FarmSearchResultResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
+import org.system.citronix.event.FarmDeletedEvent;
+import org.system.citronix.event.FarmSavedEvent;
+import org.system.citronix.event.FieldsDeletedEvent;
+import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
-import org.system.citronix.exception.ValidationException;
 import org.system.citronix.mapper.FarmMapper;
+import org.system.citronix.registry.FarmSearchIndex;
 import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -25,7 +40,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.system.citronix.constant.CitronixConstants.MAX_PAGE_LIMIT;
 
 @ExtendWith(MockitoExtension.class)
 class FarmServiceImplTest {
@@ -36,6 +54,24 @@ class FarmServiceImplTest {
     @Mock
     private FarmMapper farmMapper;
 
+    @Mock
+    private FieldRepository fieldRepository;
+
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Mock
+    private HarvestRepository harvestRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FarmSearchIndex farmSearchIndex;
+
     @InjectMocks
     private FarmServiceImpl farmService;
 
@@ -75,9 +111,8 @@ class FarmServiceImplTest {
     @Test
     @DisplayName("Should create farm successfully")
     void shouldCreateFarmSuccessfully() {
-        when(farmRepository.existsByName(anyString())).thenReturn(false);
         when(farmMapper.toEntity(any(FarmRequest.class))).thenReturn(testFarm);
-        when(farmRepository.save(any(Farm.class))).thenReturn(testFarm);
+        when(farmRepository.saveAndFlush(any(Farm.class))).thenReturn(testFarm);
         when(farmMapper.toResponse(any(Farm.class))).thenReturn(testFarmResponse);
 
         FarmResponse response = farmService.createFarm(testFarmRequest);
@@ -86,27 +121,32 @@ class FarmServiceImplTest {
         assertThat(response.getName()).isEqualTo(testFarmRequest.getName());
         assertThat(response.getArea()).isEqualTo(testFarmRequest.getArea());
 
-        verify(farmRepository).save(any(Farm.class));
+        verify(farmRepository).saveAndFlush(any(Farm.class));
+        verify(farmRepository, never()).existsByName(anyString());
         verify(farmMapper).toResponse(any(Farm.class));
+        verify(eventPublisher).publishEvent(new FarmSavedEvent(1L, "Test Farm", "Test Location", 10.0));
     }
 
     @Test
-    @DisplayName("Should throw ValidationException when creating farm with existing name")
+    @DisplayName("Should propagate the unique name violation when creating farm with existing name")
     void shouldThrowExceptionWhenCreatingFarmWithExistingName() {
-        when(farmRepository.existsByName(anyString())).thenReturn(true);
+        when(farmMapper.toEntity(any(FarmRequest.class))).thenReturn(testFarm);
+        when(farmRepository.saveAndFlush(any(Farm.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint \"uk_farms_name\""));
 
-        assertThrows(ValidationException.class, () ->
+        assertThrows(DataIntegrityViolationException.class, () ->
                 farmService.createFarm(testFarmRequest)
         );
 
-        verify(farmRepository, never()).save(any(Farm.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("Should update farm successfully")
     void shouldUpdateFarmSuccessfully() {
         when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
-        when(farmRepository.save(any(Farm.class))).thenReturn(testFarm);
+        when(farmRepository.resizeArea(1L, 10.0)).thenReturn(1);
+        when(farmRepository.saveAndFlush(any(Farm.class))).thenReturn(testFarm);
         when(farmMapper.toResponse(any(Farm.class))).thenReturn(testFarmResponse);
 
         FarmResponse response = farmService.updateFarm(1L, testFarmRequest);
@@ -114,10 +154,26 @@ class FarmServiceImplTest {
         assertThat(response).isNotNull();
         assertThat(response.getName()).isEqualTo(testFarmRequest.getName());
 
-        verify(farmRepository).save(any(Farm.class));
+        verify(farmRepository).saveAndFlush(any(Farm.class));
         verify(farmMapper).toResponse(any(Farm.class));
     }
 
+    @Test
+    @DisplayName("Should reject shrinking a farm below the area allocated to its fields")
+    void shouldRejectShrinkingFarmBelowAllocatedArea() {
+        testFarm.setAllocatedArea(6.0);
+        testFarmRequest.setArea(5.0);
+        when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.resizeArea(1L, 5.0)).thenReturn(0);
+
+        assertThrows(BusinessException.class, () ->
+                farmService.updateFarm(1L, testFarmRequest)
+        );
+
+        assertThat(testFarm.getArea()).isEqualTo(10.0);
+        verify(farmRepository, never()).saveAndFlush(any(Farm.class));
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when updating non-existent farm")
     void shouldThrowExceptionWhenUpdatingNonExistentFarm() {
@@ -127,7 +183,7 @@ class FarmServiceImplTest {
                 farmService.updateFarm(1L, testFarmRequest)
         );
 
-        verify(farmRepository, never()).save(any(Farm.class));
+        verify(farmRepository, never()).saveAndFlush(any(Farm.class));
     }
 
     @Test
@@ -167,34 +223,69 @@ class FarmServiceImplTest {
     @Test
     @DisplayName("Should calculate left area in farm")
     void shouldCalculateLeftAreaInFarm() {
-        Field field = Field.builder()
-                .id(1L)
-                .area(2.0)
-                .farm(testFarm)
-                .trees(new ArrayList<>())
-                .build();
-        testFarm.getFields().add(field);
-
-        when(farmRepository.findByIdWithFields(anyLong())).thenReturn(testFarm);
+        testFarm.setAllocatedArea(2.0);
+        when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
 
         double leftArea = farmService.calculateLeftAreaInFarm(1L);
 
         assertThat(leftArea).isEqualTo(8.0); // 10.0 - 2.0
+        verify(farmRepository, never()).findByIdWithFields(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should recount allocated area of a farm")
+    void shouldRecountAllocatedAreaOfFarm() {
+        when(farmRepository.recalculateAllocatedArea(1L)).thenReturn(1);
+        when(farmRepository.findById(1L)).thenReturn(Optional.of(testFarm));
+        when(farmMapper.toResponse(testFarm)).thenReturn(testFarmResponse);
+
+        assertThat(farmService.recountAllocatedArea(1L)).isEqualTo(testFarmResponse);
+    }
+
+    @Test
+    @DisplayName("Should reject recounting allocated area of a missing farm")
+    void shouldRejectRecountingAllocatedAreaOfMissingFarm() {
+        when(farmRepository.recalculateAllocatedArea(99L)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> farmService.recountAllocatedArea(99L));
     }
 
     @Test
     @DisplayName("Should get all farms")
     void shouldGetAllFarms() {
         List<Farm> farms = Arrays.asList(testFarm);
-        when(farmRepository.findAll()).thenReturn(farms);
+        when(farmRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(farms);
         when(farmMapper.toResponse(any(Farm.class))).thenReturn(testFarmResponse);
 
-        List<FarmResponse> responses = farmService.getAllFarms();
+        PageResponse<FarmResponse> page = farmService.getAllFarms(null, 50);
 
-        assertThat(responses).hasSize(1);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
         verify(farmMapper).toResponse(testFarm);
     }
 
+    @Test
+    @DisplayName("Should return next cursor when more farms follow the page")
+    void shouldReturnNextCursorWhenMoreFarmsFollow() {
+        Farm first = Farm.builder().id(5L).name("First").build();
+        Farm second = Farm.builder().id(7L).name("Second").build();
+        when(farmRepository.findPageAfter(eq(3L), any(Pageable.class))).thenReturn(List.of(first, second));
+        when(farmMapper.toResponse(any(Farm.class))).thenReturn(testFarmResponse);
+
+        PageResponse<FarmResponse> page = farmService.getAllFarms(3L, 1);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isEqualTo(5L);
+        verify(farmMapper, never()).toResponse(second);
+    }
+
+    @Test
+    @DisplayName("Should reject page limit above maximum")
+    void shouldRejectPageLimitAboveMaximum() {
+        assertThrows(BusinessException.class, () -> farmService.getAllFarms(null, MAX_PAGE_LIMIT + 1));
+        verify(farmRepository, never()).findPageAfter(anyLong(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Should get farms by minimum area")
     void shouldGetFarmsByMinArea() {
@@ -240,11 +331,24 @@ class FarmServiceImplTest {
     @DisplayName("Should delete farm successfully")
     void shouldDeleteFarmSuccessfully() {
         when(farmRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(farmRepository).deleteById(anyLong());
-
-        farmService.deleteFarm(1L);
-
-        verify(farmRepository).deleteById(1L);
+        when(fieldRepository.findIdsByFarmId(1L)).thenReturn(List.of(3L, 4L));
+        when(harvestDetailRepository.deleteByFarmId(1L)).thenReturn(12);
+        when(treeRepository.deleteByFarmId(1L)).thenReturn(5);
+        when(fieldRepository.deleteByFarmId(1L)).thenReturn(2);
+        when(farmRepository.deleteRowById(1L)).thenReturn(1);
+
+        DeletionResponse deleted = farmService.deleteFarm(1L);
+
+        assertThat(deleted).isEqualTo(new DeletionResponse(12, 5, 2, 1));
+        InOrder order = inOrder(harvestRepository, harvestDetailRepository, treeRepository, fieldRepository, farmRepository);
+        order.verify(harvestRepository).subtractDetailsByFarmId(1L);
+        order.verify(harvestDetailRepository).deleteByFarmId(1L);
+        order.verify(treeRepository).deleteByFarmId(1L);
+        order.verify(fieldRepository).deleteByFarmId(1L);
+        order.verify(farmRepository).deleteRowById(1L);
+        verify(farmRepository, never()).deleteById(anyLong());
+        verify(eventPublisher).publishEvent(new FieldsDeletedEvent(List.of(3L, 4L)));
+        verify(eventPublisher).publishEvent(new FarmDeletedEvent(1L));
     }
 
     @Test
@@ -256,6 +360,51 @@ class FarmServiceImplTest {
                 farmService.deleteFarm(1L)
         );
 
-        verify(farmRepository, never()).deleteById(anyLong());
+        verify(farmRepository, never()).deleteRowById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should page ranked matches from the search index")
+    void shouldSearchFarmsFromIndex() {
+        List<FarmSearchIndex.Match> matches = List.of(
+                new FarmSearchIndex.Match(1L, "Orange Valley", "Agadir", 10.0, 3.0),
+                new FarmSearchIndex.Match(3L, "Green Orange Farm", "Marrakech", 10.0, 2.0),
+                new FarmSearchIndex.Match(4L, "Sunrise", "Orangeville", 10.0, 1.35));
+        when(farmSearchIndex.isReady()).thenReturn(true);
+        when(farmSearchIndex.search("oran")).thenReturn(matches);
+        when(farmMapper.toSearchResult(any(FarmSearchIndex.Match.class)))
+                .thenAnswer(invocation -> FarmSearchResultResponse.builder()
+                        .id(invocation.<FarmSearchIndex.Match>getArgument(0).farmId())
+                        .build());
+
+        PageResponse<FarmSearchResultResponse> firstPage = farmService.searchFarms("oran", 0, 2);
+        PageResponse<FarmSearchResultResponse> lastPage = farmService.searchFarms("oran", 2, 2);
+
+        assertThat(firstPage.getItems()).extracting(FarmSearchResultResponse::getId).containsExactly(1L, 3L);
+        assertThat(firstPage.getNext()).isEqualTo(2L);
+        assertThat(lastPage.getItems()).extracting(FarmSearchResultResponse::getId).containsExactly(4L);
+        assertThat(lastPage.getNext()).isNull();
+        verify(farmRepository, never()).findByNameOrLocationPrefix(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to prefix search while the index is loading")
+    void shouldSearchFarmsByPrefixWhileIndexLoads() {
+        when(farmSearchIndex.isReady()).thenReturn(false);
+        when(farmRepository.findByNameOrLocationPrefix(eq("test"), any(Pageable.class))).thenReturn(List.of(testFarm));
+        when(farmMapper.toSearchResult(testFarm)).thenReturn(FarmSearchResultResponse.builder().id(1L).build());
+
+        PageResponse<FarmSearchResultResponse> page = farmService.searchFarms(" Test ", 0, 10);
+
+        assertThat(page.getItems()).extracting(FarmSearchResultResponse::getId).containsExactly(1L);
+        assertThat(page.getNext()).isNull();
+        verify(farmSearchIndex, never()).search(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject blank search query")
+    void shouldRejectBlankSearchQuery() {
+        assertThrows(BusinessException.class, () -> farmService.searchFarms("  ", 0, 10));
+        verify(farmSearchIndex, never()).search(anyString());
     }
-}
\ No newline at end of file
+}
@@ -1,33 +1,52 @@
 package org.system.citronix.service.impl;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.system.citronix.dto.request.FieldRequest;
+import org.system.citronix.dto.response.DeletionResponse;
 import org.system.citronix.dto.response.FieldResponse;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeInFieldResponse;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
 import org.system.citronix.entity.Tree;
 import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.FieldMapper;
+import org.system.citronix.mapper.TreeMapper;
 import org.system.citronix.repository.FarmRepository;
 import org.system.citronix.repository.FieldRepository;
-
+import org.system.citronix.repository.HarvestDetailRepository;
+import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldSummary;
+import org.system.citronix.util.TreeAgeTable;
+
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +61,27 @@ class FieldServiceImplTest {
     @Mock
     private FieldMapper fieldMapper;
 
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private TreeMapper treeMapper;
+
+    @Mock
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Mock
+    private HarvestRepository harvestRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+
     @InjectMocks
     private FieldServiceImpl fieldService;
 
@@ -88,6 +128,7 @@ class FieldServiceImplTest {
     @DisplayName("Should create field successfully")
     void shouldCreateFieldSuccessfully() {
         when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.allocateArea(1L, 2.0)).thenReturn(1);
         when(fieldMapper.toEntity(any(FieldRequest.class))).thenReturn(testField);
         when(fieldRepository.save(any(Field.class))).thenReturn(testField);
         when(fieldMapper.toResponse(any(Field.class))).thenReturn(testFieldResponse);
@@ -100,6 +141,34 @@ class FieldServiceImplTest {
 
         verify(fieldRepository).save(any(Field.class));
         verify(fieldMapper).toResponse(any(Field.class));
+        verify(farmRepository).allocateArea(1L, 2.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a new field when the farm area is already allocated")
+    void shouldRejectNewFieldWhenFarmAreaIsAllocated() {
+        when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.allocateArea(1L, 2.0)).thenReturn(0);
+
+        assertThrows(BusinessException.class, () ->
+                fieldService.createField(testFieldRequest)
+        );
+
+        verify(fieldRepository, never()).save(any(Field.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a new field once the farm has the maximum number of fields")
+    void shouldRejectNewFieldWhenFarmHasMaximumFields() {
+        when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.allocateArea(1L, 2.0)).thenReturn(1);
+        when(fieldRepository.countFieldsByFarmId(1L)).thenReturn(10L);
+
+        assertThrows(BusinessException.class, () ->
+                fieldService.createField(testFieldRequest)
+        );
+
+        verify(fieldRepository, never()).save(any(Field.class));
     }
 
     @Test
@@ -133,6 +202,7 @@ class FieldServiceImplTest {
     void shouldUpdateFieldSuccessfully() {
         when(fieldRepository.findById(anyLong())).thenReturn(Optional.of(testField));
         when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.allocateArea(1L, 0.0)).thenReturn(1);
         when(fieldRepository.save(any(Field.class))).thenReturn(testField);
         when(fieldMapper.toResponse(any(Field.class))).thenReturn(testFieldResponse);
 
@@ -143,6 +213,29 @@ class FieldServiceImplTest {
 
         verify(fieldRepository).save(any(Field.class));
         verify(fieldMapper).toResponse(any(Field.class));
+        verify(farmRepository, never()).releaseArea(anyLong(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should move field area between farm ledgers")
+    void shouldMoveFieldAreaBetweenFarmLedgers() {
+        Farm targetFarm = Farm.builder()
+                .id(2L)
+                .area(20.0)
+                .fields(new ArrayList<>())
+                .build();
+        testFieldRequest.setFarmId(2L);
+        testFieldRequest.setArea(3.0);
+
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(farmRepository.findById(2L)).thenReturn(Optional.of(targetFarm));
+        when(farmRepository.allocateArea(2L, 3.0)).thenReturn(1);
+        when(fieldRepository.countFieldsByFarmId(2L)).thenReturn(1L);
+
+        fieldService.updateField(1L, testFieldRequest);
+
+        verify(farmRepository).releaseArea(1L, 2.0);
+        verify(fieldRepository).save(testField);
     }
 
     @Test
@@ -160,62 +253,110 @@ class FieldServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should get field with trees successfully")
+    @DisplayName("Should get field with a page of trees")
     void shouldGetFieldWithTreesSuccessfully() {
-        Tree tree = Tree.builder()
-                .id(1L)
-                .plantDate(baseDate)
-                .field(testField)
-                .harvestDetails(new ArrayList<>())
-                .build();
-        testField.getTrees().add(tree);
+        List<Tree> trees = List.of(tree(1L), tree(2L), tree(3L));
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(fieldMapper.toResponse(testField)).thenReturn(testFieldResponse);
+        when(treeRepository.findFieldPageAfter(eq(1L), eq(0L), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(trees);
+        when(treeMapper.toFieldResponse(any(Tree.class), any(TreeAgeTable.class)))
+                .thenReturn(new TreeInFieldResponse());
+
+        FieldResponse response = fieldService.getFieldWithTrees(1L, null, 2, null, null);
+
+        assertThat(response.getTrees()).hasSize(2);
+        assertThat(response.getTreesNext()).isEqualTo(2L);
+        verify(fieldRepository, never()).findByIdWithTrees(anyLong());
+    }
 
-        when(fieldRepository.findByIdWithTrees(anyLong())).thenReturn(testField);
-        when(fieldMapper.toResponseWithTrees(any(Field.class))).thenReturn(testFieldResponse);
+    @Test
+    @DisplayName("Should translate an age band into plant date bounds")
+    void shouldTranslateAgeBandIntoPlantDateBounds() {
+        LocalDate today = LocalDate.of(2024, 6, 1);
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(fieldMapper.toResponse(testField)).thenReturn(testFieldResponse);
 
-        FieldResponse response = fieldService.getFieldWithTrees(1L);
+        fieldService.getFieldWithTrees(1L, 10L, 50, 3, 10);
 
-        assertThat(response).isNotNull();
-        verify(fieldMapper).toResponseWithTrees(testField);
+        verify(treeRepository).findFieldPageAfter(
+                eq(1L), eq(10L), eq(today.minusYears(11)), eq(today.minusYears(3)), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted age band")
+    void shouldRejectInvertedAgeBand() {
+        assertThrows(BusinessException.class, () -> fieldService.getFieldWithTrees(1L, null, 50, 10, 3));
+        assertThrows(BusinessException.class, () -> fieldService.validateTreeStream(1L, 10, 3));
+        verifyNoInteractions(treeRepository);
+    }
+
+    @Test
+    @DisplayName("Should stream field trees and detach them")
+    void shouldStreamFieldTreesAndDetachThem() {
+        Tree first = tree(1L);
+        Tree second = tree(2L);
+        when(treeRepository.streamByFieldId(1L, null, null)).thenReturn(Stream.of(first, second));
+        when(treeMapper.toFieldResponse(any(Tree.class), any(TreeAgeTable.class)))
+                .thenAnswer(invocation -> TreeInFieldResponse.builder()
+                        .id(invocation.<Tree>getArgument(0).getId())
+                        .build());
+        List<TreeInFieldResponse> written = new ArrayList<>();
+
+        fieldService.streamFieldTrees(1L, null, null, written::add);
+
+        assertThat(written).extracting(TreeInFieldResponse::getId).containsExactly(1L, 2L);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
     }
 
     @Test
-    @DisplayName("Should get all fields")
+    @DisplayName("Should reject streaming trees of a missing field")
+    void shouldRejectStreamingTreesOfMissingField() {
+        when(fieldRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> fieldService.validateTreeStream(99L, null, null));
+    }
+
+    @Test
+    @DisplayName("Should get all fields from summaries")
     void shouldGetAllFields() {
-        List<Field> fields = Arrays.asList(testField);
-        when(fieldRepository.findAll()).thenReturn(fields);
-        when(fieldMapper.toResponse(any(Field.class))).thenReturn(testFieldResponse);
+        FieldSummary summary = mock(FieldSummary.class);
+        when(fieldRepository.findSummaryPageAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(summary));
+        when(fieldMapper.toResponse(any(FieldSummary.class))).thenReturn(testFieldResponse);
 
-        List<FieldResponse> responses = fieldService.getAllFields();
+        PageResponse<FieldResponse> page = fieldService.getAllFields(null, 50);
 
-        assertThat(responses).hasSize(1);
-        verify(fieldMapper).toResponse(testField);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+        verify(fieldMapper).toResponse(summary);
+        verify(fieldRepository, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Should get fields by farm ID")
+    @DisplayName("Should get fields by farm ID from summaries")
     void shouldGetFieldsByFarmId() {
-        List<Field> fields = Arrays.asList(testField);
-        when(fieldRepository.findByFarmId(anyLong())).thenReturn(fields);
-        when(fieldMapper.toResponse(any(Field.class))).thenReturn(testFieldResponse);
+        FieldSummary summary = mock(FieldSummary.class);
+        when(fieldRepository.findSummariesByFarmId(anyLong())).thenReturn(List.of(summary));
+        when(fieldMapper.toResponse(any(FieldSummary.class))).thenReturn(testFieldResponse);
 
         List<FieldResponse> responses = fieldService.getFieldsByFarmId(1L);
 
         assertThat(responses).hasSize(1);
-        verify(fieldMapper).toResponse(testField);
+        verify(fieldMapper).toResponse(summary);
     }
 
     @Test
-    @DisplayName("Should get fields by maximum area")
+    @DisplayName("Should get fields by maximum area from summaries")
     void shouldGetFieldsByMaxArea() {
-        List<Field> fields = Arrays.asList(testField);
-        when(fieldRepository.findByAreaLessThanEqual(anyDouble())).thenReturn(fields);
-        when(fieldMapper.toResponse(any(Field.class))).thenReturn(testFieldResponse);
+        FieldSummary summary = mock(FieldSummary.class);
+        when(fieldRepository.findSummariesByMaxArea(anyDouble())).thenReturn(List.of(summary));
+        when(fieldMapper.toResponse(any(FieldSummary.class))).thenReturn(testFieldResponse);
 
         List<FieldResponse> responses = fieldService.getFieldsByMaxArea(3.0);
 
         assertThat(responses).hasSize(1);
-        verify(fieldMapper).toResponse(testField);
+        verify(fieldMapper).toResponse(summary);
     }
 
     @Test
@@ -243,41 +384,46 @@ class FieldServiceImplTest {
     @Test
     @DisplayName("Should delete field successfully")
     void shouldDeleteFieldSuccessfully() {
-        when(fieldRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(fieldRepository).deleteById(anyLong());
-
-        fieldService.deleteField(1L);
-
-        verify(fieldRepository).deleteById(1L);
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(harvestDetailRepository.deleteByFieldId(1L)).thenReturn(6);
+        when(treeRepository.deleteByFieldId(1L)).thenReturn(3);
+        when(fieldRepository.deleteRowById(1L)).thenReturn(1);
+
+        DeletionResponse deleted = fieldService.deleteField(1L);
+
+        assertThat(deleted.getHarvestDetails()).isEqualTo(6);
+        assertThat(deleted.getTrees()).isEqualTo(3);
+        assertThat(deleted.getFields()).isEqualTo(1);
+        InOrder order = inOrder(harvestRepository, harvestDetailRepository, treeRepository, fieldRepository);
+        order.verify(harvestRepository).subtractDetailsByFieldId(1L);
+        order.verify(harvestDetailRepository).deleteByFieldId(1L);
+        order.verify(treeRepository).deleteByFieldId(1L);
+        order.verify(fieldRepository).deleteRowById(1L);
+        verify(farmRepository).releaseArea(1L, 2.0);
+        verify(fieldRepository, never()).delete(any(Field.class));
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent field")
     void shouldThrowExceptionWhenDeletingNonExistentField() {
-        when(fieldRepository.existsById(anyLong())).thenReturn(false);
+        when(fieldRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
                 fieldService.deleteField(1L)
         );
 
-        verify(fieldRepository, never()).deleteById(anyLong());
+        verify(fieldRepository, never()).deleteRowById(anyLong());
+        verify(farmRepository, never()).releaseArea(anyLong(), anyDouble());
     }
 
     @Test
     @DisplayName("Should throw exception when updating field would exceed farm capacity")
     void shouldThrowExceptionWhenUpdatingFieldWouldExceedFarmCapacity() {
-        Field existingField = Field.builder()
-                .id(2L)
-                .area(3.0)
-                .farm(testFarm)
-                .trees(new ArrayList<>())
-                .build();
-        testFarm.getFields().add(existingField);
-
-        testFieldRequest.setArea(8.0); // This would exceed the farm's capacity with existing field
+        testFieldRequest.setArea(5.0); // Within the ratio, but the farm has less than 3 more hectares left
 
         when(fieldRepository.findById(anyLong())).thenReturn(Optional.of(testField));
         when(farmRepository.findById(anyLong())).thenReturn(Optional.of(testFarm));
+        when(farmRepository.allocateArea(1L, 3.0)).thenReturn(0);
 
         assertThrows(BusinessException.class, () ->
                 fieldService.updateField(1L, testFieldRequest)
@@ -285,4 +431,35 @@ class FieldServiceImplTest {
 
         verify(fieldRepository, never()).save(any(Field.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should recount trees of a field")
+    void shouldRecountTreesOfField() {
+        when(fieldRepository.recalculateTreeCount(1L)).thenReturn(1);
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(fieldMapper.toResponse(testField)).thenReturn(testFieldResponse);
+
+        FieldResponse response = fieldService.recountTrees(1L);
+
+        assertThat(response).isEqualTo(testFieldResponse);
+        verify(treeRepository, never()).countTreesByFieldId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw when recounting trees of a missing field")
+    void shouldThrowWhenRecountingMissingField() {
+        when(fieldRepository.recalculateTreeCount(99L)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> fieldService.recountTrees(99L));
+
+        verify(fieldRepository, never()).findById(anyLong());
+    }
+
+    private Tree tree(Long id) {
+        return Tree.builder()
+                .id(id)
+                .plantDate(baseDate)
+                .field(testField)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package org.system.citronix.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.system.citronix.entity.FieldTierSummary;
+import org.system.citronix.entity.SummaryCheckpoint;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.exception.BusinessException;
+import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.FieldTierSummaryRepository;
+import org.system.citronix.repository.SummaryCheckpointRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTreeCount;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FieldTierSummaryServiceImplTest {
+
+    @Mock
+    private FieldTierSummaryRepository fieldTierSummaryRepository;
+
+    @Mock
+    private SummaryCheckpointRepository summaryCheckpointRepository;
+
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private FieldRepository fieldRepository;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @InjectMocks
+    private FieldTierSummaryServiceImpl fieldTierSummaryService;
+
+    private final LocalDate today = LocalDate.of(2024, 6, 1);
+
+    @Test
+    @DisplayName("Should add planted trees to their tier at the checkpoint date")
+    void shouldAddPlantedTreesToTheirTier() {
+        when(summaryCheckpointRepository.findByNameForShare(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(checkpoint(today)));
+        when(fieldTierSummaryRepository.adjustTreeCount(eq(1L), any(ProductivityTierEnum.class), anyLong(), anyDouble()))
+                .thenReturn(1);
+
+        fieldTierSummaryService.recordPlanted(1L, List.of(
+                LocalDate.of(2024, 4, 1), LocalDate.of(2024, 3, 1), LocalDate.of(2015, 4, 1)));
+
+        verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.YOUNG, 2L, 2.5);
+        verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.MATURE, 1L, 12.0);
+        verify(fieldTierSummaryRepository, never()).save(any(FieldTierSummary.class));
+    }
+
+    @Test
+    @DisplayName("Should create a missing summary row and then update it")
+    void shouldInsertSummaryRowWhenMissing() {
+        when(summaryCheckpointRepository.findByNameForShare(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(checkpoint(today)));
+        when(fieldTierSummaryRepository.adjustTreeCount(1L, ProductivityTierEnum.YOUNG, 1L, 2.5)).thenReturn(0, 1);
+
+        fieldTierSummaryService.recordPlanted(1L, List.of(LocalDate.of(2024, 4, 1)));
+
+        InOrder order = inOrder(fieldTierSummaryRepository);
+        order.verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.YOUNG, 1L, 2.5);
+        order.verify(fieldTierSummaryRepository).insertEmptyRowIfMissing(1L, "YOUNG");
+        order.verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.YOUNG, 1L, 2.5);
+        verify(fieldTierSummaryRepository, never()).save(any(FieldTierSummary.class));
+    }
+
+    @Test
+    @DisplayName("Should skip maintenance before the summary is built")
+    void shouldSkipMaintenanceBeforeSummaryIsBuilt() {
+        when(summaryCheckpointRepository.findByNameForShare(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.empty());
+
+        fieldTierSummaryService.recordRemoved(1L, List.of(LocalDate.of(2024, 4, 1)));
+
+        verifyNoInteractions(fieldTierSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("Should move only trees whose anniversary crossed a tier boundary")
+    void shouldMoveTreesWhoseAnniversaryCrossedBoundary() {
+        LocalDate asOf = today.minusDays(3);
+        SummaryCheckpoint checkpoint = checkpoint(asOf);
+        FieldTreeCount crossed = mock(FieldTreeCount.class);
+        when(crossed.getFieldId()).thenReturn(1L);
+        when(crossed.getTrees()).thenReturn(5L);
+
+        when(summaryCheckpointRepository.findByNameForUpdate(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(checkpoint));
+        when(treeRepository.countTreesByFieldPlantedBetween(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+        when(treeRepository.countTreesByFieldPlantedBetween(asOf.minusYears(3), today.minusYears(3)))
+                .thenReturn(List.of(crossed));
+        when(fieldTierSummaryRepository.adjustTreeCount(eq(1L), any(ProductivityTierEnum.class), anyLong(), anyDouble()))
+                .thenReturn(1);
+
+        long transitions = fieldTierSummaryService.rollOverTiers();
+
+        assertThat(transitions).isEqualTo(5L);
+        assertThat(checkpoint.getAsOf()).isEqualTo(today);
+        verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.YOUNG, -5L, 2.5);
+        verify(fieldTierSummaryRepository).adjustTreeCount(1L, ProductivityTierEnum.MATURE, 5L, 12.0);
+        verify(treeRepository, never()).countAllTreesByFieldAndTier(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not roll over twice on the same day")
+    void shouldNotRollOverTwiceOnSameDay() {
+        when(summaryCheckpointRepository.findByNameForUpdate(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(checkpoint(today)));
+
+        assertThat(fieldTierSummaryService.rollOverTiers()).isZero();
+        verifyNoInteractions(treeRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject summary reads for a date other than the checkpoint")
+    void shouldRejectSummaryReadsForOtherDate() {
+        when(summaryCheckpointRepository.findById(FieldTierSummaryServiceImpl.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(checkpoint(today)));
+
+        assertThrows(BusinessException.class,
+                () -> fieldTierSummaryService.getTreesByFieldAndTier(1L, today.plusDays(1)));
+    }
+
+    private SummaryCheckpoint checkpoint(LocalDate asOf) {
+        return SummaryCheckpoint.builder()
+                .name(FieldTierSummaryServiceImpl.CHECKPOINT_NAME)
+                .asOf(asOf)
+                .build();
+    }
+}
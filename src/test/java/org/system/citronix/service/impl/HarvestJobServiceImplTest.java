@@ -0,0 +1,271 @@
+package org.system.citronix.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.system.citronix.dto.response.HarvestJobResponse;
+import org.system.citronix.entity.Field;
+import org.system.citronix.entity.Harvest;
+import org.system.citronix.entity.HarvestJob;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.JobStatusEnum;
+import org.system.citronix.enums.SeasonEnum;
+import org.system.citronix.exception.BusinessException;
+import org.system.citronix.mapper.HarvestJobMapper;
+import org.system.citronix.repository.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HarvestJobServiceImplTest {
+
+    @Mock
+    private HarvestJobRepository harvestJobRepository;
+
+    @Mock
+    private HarvestRepository harvestRepository;
+
+    @Mock
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private HarvestJobMapper harvestJobMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskExecutor harvestJobExecutor;
+
+    @InjectMocks
+    private HarvestJobServiceImpl harvestJobService;
+
+    private HarvestJob storedJob;
+    private Harvest testHarvest;
+    private final LocalDate baseDate = LocalDate.of(2024, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        testHarvest = Harvest.builder()
+                .id(1L)
+                .date(baseDate)
+                .season(SeasonEnum.WINTER)
+                .totalQuantity(0.0)
+                .harvestDetails(new ArrayList<>())
+                .build();
+
+        // Run transaction callbacks and submitted jobs inline
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(harvestJobExecutor).execute(any(Runnable.class));
+
+        when(harvestJobRepository.save(any(HarvestJob.class))).thenAnswer(invocation -> {
+            storedJob = invocation.getArgument(0);
+            if (storedJob.getId() == null) {
+                storedJob.setId(10L);
+            }
+            return storedJob;
+        });
+        when(harvestJobRepository.findById(10L)).thenAnswer(invocation -> Optional.ofNullable(storedJob));
+        // Conditional status updates, applied to the stored job like the WHERE clause would
+        when(harvestJobRepository.claimForRun(eq(10L), any(LocalDateTime.class))).thenAnswer(invocation ->
+                transition(JobStatusEnum.PENDING, JobStatusEnum.RUNNING));
+        when(harvestJobRepository.claimFailedForRestart(10L)).thenAnswer(invocation ->
+                transition(JobStatusEnum.FAILED, JobStatusEnum.PENDING));
+        when(harvestJobRepository.claimStaleForRestart(eq(10L), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            LocalDateTime staleBefore = invocation.getArgument(1);
+            LocalDateTime lastSeen = storedJob.getHeartbeatAt() != null ? storedJob.getHeartbeatAt() : storedJob.getStartedAt();
+            return lastSeen != null && lastSeen.isBefore(staleBefore)
+                    ? transition(JobStatusEnum.RUNNING, JobStatusEnum.PENDING)
+                    : 0;
+        });
+        when(harvestJobMapper.toResponse(any(HarvestJob.class))).thenReturn(new HarvestJobResponse());
+
+        when(harvestRepository.existsById(1L)).thenReturn(true);
+        when(farmRepository.existsById(1L)).thenReturn(true);
+        when(harvestRepository.findById(1L)).thenReturn(Optional.of(testHarvest));
+        when(harvestDetailRepository.findHarvestedTreeIdsAmong(anyCollection(), any(SeasonEnum.class), anyInt()))
+                .thenReturn(Set.of());
+    }
+
+    @Test
+    @DisplayName("Should process farm trees in chunks and complete the job")
+    void shouldProcessFarmTreesInChunks() {
+        List<Tree> firstChunk = List.of(tree(1L), tree(2L));
+        List<Tree> secondChunk = List.of(tree(3L));
+
+        when(treeRepository.countTreesByFarmId(1L)).thenReturn(3L);
+        when(treeRepository.findChunkByFarmId(eq(1L), eq(0L), any(Pageable.class))).thenReturn(firstChunk);
+        when(treeRepository.findChunkByFarmId(eq(1L), eq(2L), any(Pageable.class))).thenReturn(secondChunk);
+
+        harvestJobService.startFarmHarvestJob(1L, 1L, 2);
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.COMPLETED);
+        assertThat(storedJob.getProcessedTrees()).isEqualTo(3L);
+        assertThat(storedJob.getCreatedDetails()).isEqualTo(3L);
+        assertThat(storedJob.getLastTreeId()).isEqualTo(3L);
+        verify(harvestDetailRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should resume a failed job from the last committed chunk")
+    void shouldResumeFailedJobFromLastCommittedChunk() {
+        when(treeRepository.countTreesByFarmId(1L)).thenReturn(3L);
+        when(treeRepository.findChunkByFarmId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(tree(1L), tree(2L)));
+        when(treeRepository.findChunkByFarmId(eq(1L), eq(2L), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of(tree(3L)));
+
+        harvestJobService.startFarmHarvestJob(1L, 1L, 2);
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.FAILED);
+        assertThat(storedJob.getLastTreeId()).isEqualTo(2L);
+        assertThat(storedJob.getLastError()).isEqualTo("connection reset");
+
+        harvestJobService.restartJob(10L);
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.COMPLETED);
+        assertThat(storedJob.getProcessedTrees()).isEqualTo(3L);
+        verify(treeRepository, times(1)).findChunkByFarmId(eq(1L), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject restarting a job that has not failed")
+    void shouldRejectRestartingJobThatHasNotFailed() {
+        storedJob = HarvestJob.builder()
+                .id(10L)
+                .status(JobStatusEnum.COMPLETED)
+                .build();
+
+        assertThrows(BusinessException.class, () -> harvestJobService.restartJob(10L));
+        verify(harvestJobExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid chunk size")
+    void shouldRejectInvalidChunkSize() {
+        assertThrows(BusinessException.class, () -> harvestJobService.startFarmHarvestJob(1L, 1L, 0));
+        verify(harvestJobRepository, never()).save(any(HarvestJob.class));
+    }
+
+    @Test
+    @DisplayName("Should mark a job failed when the executor rejects it")
+    void shouldMarkJobFailedWhenExecutorRejectsIt() {
+        when(treeRepository.countTreesByFarmId(1L)).thenReturn(3L);
+        doThrow(new TaskRejectedException("queue full")).when(harvestJobExecutor).execute(any(Runnable.class));
+
+        assertThrows(BusinessException.class, () -> harvestJobService.startFarmHarvestJob(1L, 1L, 2));
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.FAILED);
+        assertThat(storedJob.getFinishedAt()).isNotNull();
+        assertThat(storedJob.getLastError()).isEqualTo("queue full");
+        verify(treeRepository, never()).findChunkByFarmId(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should restart a job left running by a previous instance")
+    void shouldRestartJobLeftRunningByPreviousInstance() {
+        storedJob = HarvestJob.builder()
+                .id(10L)
+                .harvestId(1L)
+                .farmId(1L)
+                .status(JobStatusEnum.RUNNING)
+                .chunkSize(2)
+                .totalTrees(1L)
+                .heartbeatAt(LocalDateTime.now().minusHours(1))
+                .build();
+        when(treeRepository.findChunkByFarmId(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of(tree(1L)));
+
+        harvestJobService.restartJob(10L);
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.COMPLETED);
+        assertThat(storedJob.getProcessedTrees()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject restarting a running job that is still making progress")
+    void shouldRejectRestartingRunningJobWithRecentHeartbeat() {
+        storedJob = HarvestJob.builder()
+                .id(10L)
+                .status(JobStatusEnum.RUNNING)
+                .heartbeatAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        assertThrows(BusinessException.class, () -> harvestJobService.restartJob(10L));
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.RUNNING);
+        verify(harvestJobExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject restarting a pending job")
+    void shouldRejectRestartingPendingJob() {
+        storedJob = HarvestJob.builder()
+                .id(10L)
+                .status(JobStatusEnum.PENDING)
+                .build();
+
+        assertThrows(BusinessException.class, () -> harvestJobService.restartJob(10L));
+        verify(harvestJobExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Should not run a job that another run already claimed")
+    void shouldNotRunJobClaimedByAnotherRun() {
+        when(treeRepository.countTreesByFarmId(1L)).thenReturn(3L);
+        when(harvestJobRepository.claimForRun(eq(10L), any(LocalDateTime.class))).thenReturn(0);
+
+        harvestJobService.startFarmHarvestJob(1L, 1L, 2);
+
+        assertThat(storedJob.getStatus()).isEqualTo(JobStatusEnum.PENDING);
+        verify(treeRepository, never()).findChunkByFarmId(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    private int transition(JobStatusEnum expected, JobStatusEnum next) {
+        if (storedJob == null || storedJob.getStatus() != expected) {
+            return 0;
+        }
+        storedJob.setStatus(next);
+        return 1;
+    }
+
+    private Tree tree(Long id) {
+        return Tree.builder()
+                .id(id)
+                .plantDate(baseDate.minusYears(5))
+                .field(Field.builder().id(1L).area(1.0).build())
+                .build();
+    }
+}
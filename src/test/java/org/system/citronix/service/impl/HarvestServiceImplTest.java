@@ -7,26 +7,39 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.system.citronix.dto.request.HarvestRequest;
+import org.system.citronix.dto.response.HarvestPreviewResponse;
 import org.system.citronix.dto.response.HarvestResponse;
+import org.system.citronix.dto.response.PageResponse;
 import org.system.citronix.entity.Harvest;
 import org.system.citronix.entity.HarvestDetail;
+import org.system.citronix.enums.HarvestPreviewSourceEnum;
+import org.system.citronix.enums.ProductivityTierEnum;
 import org.system.citronix.enums.SeasonEnum;
 import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.HarvestMapper;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.HarvestDetailRepository;
 import org.system.citronix.repository.HarvestRepository;
+import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.repository.projection.FieldTierCount;
+import org.system.citronix.service.FieldTierSummaryService;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +52,18 @@ class HarvestServiceImplTest {
     @Mock
     private HarvestMapper harvestMapper;
 
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private TreeRepository treeRepository;
+
+    @Mock
+    private HarvestDetailRepository harvestDetailRepository;
+
+    @Mock
+    private FieldTierSummaryService fieldTierSummaryService;
+
     @InjectMocks
     private HarvestServiceImpl harvestService;
 
@@ -181,12 +206,13 @@ class HarvestServiceImplTest {
     @DisplayName("Should get all harvests")
     void shouldGetAllHarvests() {
         List<Harvest> harvests = Arrays.asList(testHarvest);
-        when(harvestRepository.findAll()).thenReturn(harvests);
+        when(harvestRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(harvests);
         when(harvestMapper.toResponse(any(Harvest.class))).thenReturn(testHarvestResponse);
 
-        List<HarvestResponse> responses = harvestService.getAllHarvests();
+        PageResponse<HarvestResponse> page = harvestService.getAllHarvests(null, 50);
 
-        assertThat(responses).hasSize(1);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
         verify(harvestMapper).toResponse(testHarvest);
     }
 
@@ -311,4 +337,67 @@ class HarvestServiceImplTest {
                 .season(season)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should preview harvest yield from tier counts")
+    void shouldPreviewHarvestYieldFromTierCounts() {
+        FieldTierCount fieldCount = mock(FieldTierCount.class);
+        when(fieldCount.getFieldId()).thenReturn(1L);
+        when(fieldCount.getYoungTrees()).thenReturn(2L);
+        when(fieldCount.getMatureTrees()).thenReturn(3L);
+        when(fieldCount.getOldTrees()).thenReturn(1L);
+        when(fieldCount.getRetiredTrees()).thenReturn(4L);
+
+        when(farmRepository.existsById(1L)).thenReturn(true);
+        when(treeRepository.countHarvestableTreesByFieldAndTier(1L, SeasonEnum.WINTER, 2024,
+                winterDate.minusYears(3), winterDate.minusYears(11), winterDate.minusYears(21)))
+                .thenReturn(List.of(fieldCount));
+
+        HarvestPreviewResponse preview = harvestService.previewHarvest(1L, winterDate, HarvestPreviewSourceEnum.TREES);
+
+        assertThat(preview.getTotalTrees()).isEqualTo(10L);
+        assertThat(preview.getExpectedQuantity()).isEqualTo(2 * 2.5 + 3 * 12.0 + 20.0);
+        assertThat(preview.getQuantityByTier()).containsEntry(ProductivityTierEnum.RETIRED, 0.0);
+        assertThat(preview.getFields()).hasSize(1);
+        verify(treeRepository, never()).findAllTreesByFarmId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should preview harvest yield from the tier summary")
+    void shouldPreviewHarvestYieldFromTierSummary() {
+        Map<ProductivityTierEnum, Long> fieldTrees = new EnumMap<>(ProductivityTierEnum.class);
+        fieldTrees.put(ProductivityTierEnum.YOUNG, 2L);
+        fieldTrees.put(ProductivityTierEnum.MATURE, 3L);
+        fieldTrees.put(ProductivityTierEnum.OLD, 1L);
+        fieldTrees.put(ProductivityTierEnum.RETIRED, 4L);
+
+        when(farmRepository.existsById(1L)).thenReturn(true);
+        when(fieldTierSummaryService.getTreesByFieldAndTier(1L, winterDate)).thenReturn(Map.of(1L, fieldTrees));
+
+        // One mature tree was already harvested this winter, so generation would skip it
+        FieldTierCount harvested = mock(FieldTierCount.class);
+        when(harvested.getFieldId()).thenReturn(1L);
+        when(harvested.getYoungTrees()).thenReturn(0L);
+        when(harvested.getMatureTrees()).thenReturn(1L);
+        when(harvested.getOldTrees()).thenReturn(0L);
+        when(harvested.getRetiredTrees()).thenReturn(0L);
+        when(harvestDetailRepository.countHarvestedTreesByFieldAndTier(1L, SeasonEnum.WINTER, 2024,
+                winterDate.minusYears(3), winterDate.minusYears(11), winterDate.minusYears(21)))
+                .thenReturn(List.of(harvested));
+
+        HarvestPreviewResponse preview = harvestService.previewHarvest(1L, winterDate, HarvestPreviewSourceEnum.SUMMARY);
+
+        assertThat(preview.getTotalTrees()).isEqualTo(9L);
+        assertThat(preview.getExpectedQuantity()).isEqualTo(2 * 2.5 + 2 * 12.0 + 20.0);
+        assertThat(preview.getTreesByTier()).containsEntry(ProductivityTierEnum.MATURE, 2L);
+        verify(treeRepository, never()).countHarvestableTreesByFieldAndTier(anyLong(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when previewing harvest for missing farm")
+    void shouldThrowExceptionWhenPreviewingMissingFarm() {
+        when(farmRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> harvestService.previewHarvest(1L, winterDate, HarvestPreviewSourceEnum.TREES));
+    }
+}
@@ -4,21 +4,38 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.system.citronix.dto.request.TreeBatchRequest;
 import org.system.citronix.dto.request.TreeRequest;
+import org.system.citronix.dto.response.PageResponse;
+import org.system.citronix.dto.response.TreeBatchResponse;
 import org.system.citronix.dto.response.TreeResponse;
 import org.system.citronix.entity.Farm;
 import org.system.citronix.entity.Field;
 import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.event.TreesPlantedEvent;
 import org.system.citronix.exception.BusinessException;
 import org.system.citronix.exception.ResourceNotFoundException;
 import org.system.citronix.mapper.TreeMapper;
+import org.system.citronix.registry.TreeRegistry;
 import org.system.citronix.repository.FieldRepository;
+import org.system.citronix.repository.HarvestRepository;
 import org.system.citronix.repository.TreeRepository;
+import org.system.citronix.service.FieldTierSummaryService;
+import org.system.citronix.util.TreeAgeTable;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +44,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -39,9 +59,24 @@ class TreeServiceImplTest {
     @Mock
     private FieldRepository fieldRepository;
 
+    @Mock
+    private HarvestRepository harvestRepository;
+
     @Mock
     private TreeMapper treeMapper;
 
+    @Mock
+    private FieldTierSummaryService fieldTierSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<TreeRegistry> treeRegistry;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+
     @InjectMocks
     private TreeServiceImpl treeService;
 
@@ -96,6 +131,7 @@ class TreeServiceImplTest {
     @DisplayName("Should plant tree successfully")
     void shouldPlantTreeSuccessfully() {
         when(fieldRepository.findById(anyLong())).thenReturn(Optional.of(testField));
+        when(fieldRepository.incrementTreeCount(1L, 1)).thenReturn(1);
         when(treeMapper.toEntity(any(TreeRequest.class))).thenReturn(testTree);
         when(treeRepository.save(any(Tree.class))).thenReturn(testTree);
         when(treeMapper.toResponse(any(Tree.class), any(LocalDate.class))).thenReturn(testTreeResponse);
@@ -110,6 +146,46 @@ class TreeServiceImplTest {
         verify(treeMapper).toResponse(any(Tree.class), any(LocalDate.class));
     }
 
+    @Test
+    @DisplayName("Should plant a batch of trees with a single density check")
+    void shouldPlantBatchOfTreesWithSingleDensityCheck() {
+        TreeBatchRequest request = TreeBatchRequest.builder()
+                .fieldId(1L)
+                .plantDate(baseDate)
+                .count(3)
+                .build();
+        testField.setTreeCount(90);
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(fieldRepository.incrementTreeCount(1L, 3)).thenReturn(1);
+        when(treeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Tree> trees = invocation.getArgument(0);
+            for (int i = 0; i < trees.size(); i++) {
+                trees.get(i).setId(101L + i);
+            }
+            return trees;
+        });
+
+        TreeBatchResponse response = treeService.plantTrees(request);
+
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getTreeIds()).containsExactly(101L, 102L, 103L);
+        verify(treeRepository, never()).save(any(Tree.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch that exceeds field density")
+    void shouldRejectBatchExceedingFieldDensity() {
+        TreeBatchRequest request = TreeBatchRequest.builder()
+                .fieldId(1L)
+                .plantDates(List.of(baseDate, baseDate.plusDays(1)))
+                .build();
+        testField.setTreeCount(99);
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+
+        assertThrows(BusinessException.class, () -> treeService.plantTrees(request));
+        verify(treeRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("Should throw exception when planting tree in invalid month")
     void shouldThrowExceptionWhenPlantingTreeInInvalidMonth() {
@@ -126,12 +202,25 @@ class TreeServiceImplTest {
     @Test
     @DisplayName("Should throw exception when field is at maximum tree density")
     void shouldThrowExceptionWhenFieldIsAtMaximumTreeDensity() {
-        // Add maximum number of trees to field (100 per hectare)
-        for (int i = 0; i < 100; i++) {
-            testField.getTrees().add(Tree.builder().build());
-        }
+        // Field already holds the maximum number of trees (100 per hectare)
+        testField.setTreeCount(100);
+
+        when(fieldRepository.findById(anyLong())).thenReturn(Optional.of(testField));
+
+        assertThrows(BusinessException.class, () ->
+                treeService.plantTree(testTreeRequest)
+        );
+
+        verify(treeRepository, never()).save(any(Tree.class));
+        verify(fieldRepository, never()).incrementTreeCount(anyLong(), anyInt());
+    }
 
+    @Test
+    @DisplayName("Should throw exception when a concurrent planting filled the field")
+    void shouldThrowExceptionWhenTreeSpacesCannotBeReserved() {
+        testField.setTreeCount(99);
         when(fieldRepository.findById(anyLong())).thenReturn(Optional.of(testField));
+        when(fieldRepository.incrementTreeCount(1L, 1)).thenReturn(0);
 
         assertThrows(BusinessException.class, () ->
                 treeService.plantTree(testTreeRequest)
@@ -172,13 +261,14 @@ class TreeServiceImplTest {
     @DisplayName("Should get all trees")
     void shouldGetAllTrees() {
         List<Tree> trees = Arrays.asList(testTree);
-        when(treeRepository.findAll()).thenReturn(trees);
-        when(treeMapper.toResponse(any(Tree.class), any(LocalDate.class))).thenReturn(testTreeResponse);
+        when(treeRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(trees);
+        when(treeMapper.toResponse(any(Tree.class), any(TreeAgeTable.class))).thenReturn(testTreeResponse);
 
-        List<TreeResponse> responses = treeService.getAllTrees();
+        PageResponse<TreeResponse> page = treeService.getAllTrees(null, 50);
 
-        assertThat(responses).hasSize(1);
-        verify(treeMapper).toResponse(any(Tree.class), any(LocalDate.class));
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNext()).isNull();
+        verify(treeMapper).toResponse(any(Tree.class), any(TreeAgeTable.class));
     }
 
     @Test
@@ -186,12 +276,12 @@ class TreeServiceImplTest {
     void shouldGetTreesByFieldId() {
         List<Tree> trees = Arrays.asList(testTree);
         when(treeRepository.findByFieldId(anyLong())).thenReturn(trees);
-        when(treeMapper.toResponse(any(Tree.class), any(LocalDate.class))).thenReturn(testTreeResponse);
+        when(treeMapper.toResponse(any(Tree.class), any(TreeAgeTable.class))).thenReturn(testTreeResponse);
 
         List<TreeResponse> responses = treeService.getTreesByFieldId(1L);
 
         assertThat(responses).hasSize(1);
-        verify(treeMapper).toResponse(any(Tree.class), any(LocalDate.class));
+        verify(treeMapper).toResponse(any(Tree.class), any(TreeAgeTable.class));
     }
 
     @Test
@@ -200,7 +290,7 @@ class TreeServiceImplTest {
         List<Tree> trees = Arrays.asList(testTree);
         when(treeRepository.findByPlantDateBetween(any(LocalDate.class), any(LocalDate.class)))
                 .thenReturn(trees);
-        when(treeMapper.toResponse(any(Tree.class), any(LocalDate.class))).thenReturn(testTreeResponse);
+        when(treeMapper.toResponse(any(Tree.class), any(TreeAgeTable.class))).thenReturn(testTreeResponse);
 
         List<TreeResponse> responses = treeService.getTreesByPlantingPeriod(
                 baseDate.minusDays(1),
@@ -214,14 +304,27 @@ class TreeServiceImplTest {
     @DisplayName("Should get trees older than specified age")
     void shouldGetTreesOlderThanAge() {
         List<Tree> trees = Arrays.asList(testTree);
-        when(treeRepository.findTreesOlderThan(anyInt())).thenReturn(trees);
-        when(treeMapper.toResponse(any(Tree.class), any(LocalDate.class))).thenReturn(testTreeResponse);
+        when(treeRepository.findTreesPlantedOnOrBefore(LocalDate.of(2020, 6, 1))).thenReturn(trees);
+        when(treeMapper.toResponse(any(Tree.class), any(TreeAgeTable.class))).thenReturn(testTreeResponse);
 
         List<TreeResponse> responses = treeService.getTreesOlderThan(3);
 
         assertThat(responses).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should get trees in an age band with a plant date range")
+    void shouldGetTreesInAgeBandWithPlantDateRange() {
+        LocalDate today = LocalDate.of(2024, 6, 1);
+        when(treeRepository.findTreesPlantedAfterAndOnOrBefore(today.minusYears(11), today.minusYears(3)))
+                .thenReturn(List.of(testTree));
+        when(treeMapper.toResponse(any(Tree.class), any(TreeAgeTable.class))).thenReturn(testTreeResponse);
+
+        List<TreeResponse> responses = treeService.getTreesByAgeBand(ProductivityTierEnum.MATURE);
+
+        assertThat(responses).hasSize(1);
+    }
+
     @Test
     @DisplayName("Should count trees in field")
     void shouldCountTreesInField() {
@@ -232,6 +335,33 @@ class TreeServiceImplTest {
         assertThat(count).isEqualTo(5L);
     }
 
+    @Test
+    @DisplayName("Should count trees from the registry once it is loaded")
+    void shouldCountTreesFromLoadedRegistry() {
+        TreeRegistry registry = mock(TreeRegistry.class);
+        when(treeRegistry.getIfAvailable()).thenReturn(registry);
+        when(registry.isReady()).thenReturn(true);
+        when(registry.countPlantedInPeriod(1L, baseDate, baseDate.plusDays(1))).thenReturn(7L);
+
+        long count = treeService.countTreesPlantedInPeriod(1L, baseDate, baseDate.plusDays(1));
+
+        assertThat(count).isEqualTo(7L);
+        verify(treeRepository, never()).countTreesPlantedInPeriod(anyLong(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should publish planted event for registry updates")
+    void shouldPublishPlantedEvent() {
+        when(fieldRepository.findById(1L)).thenReturn(Optional.of(testField));
+        when(fieldRepository.incrementTreeCount(1L, 1)).thenReturn(1);
+        when(treeMapper.toEntity(any(TreeRequest.class))).thenReturn(testTree);
+        when(treeRepository.save(any(Tree.class))).thenReturn(testTree);
+
+        treeService.plantTree(testTreeRequest);
+
+        verify(eventPublisher).publishEvent(new TreesPlantedEvent(1L, List.of(1L), List.of(baseDate)));
+    }
+
     @Test
     @DisplayName("Should calculate tree productivity")
     void shouldCalculateTreeProductivity() {
@@ -260,24 +390,27 @@ class TreeServiceImplTest {
     @Test
     @DisplayName("Should delete tree successfully")
     void shouldDeleteTreeSuccessfully() {
-        when(treeRepository.existsById(anyLong())).thenReturn(true);
-        doNothing().when(treeRepository).deleteById(anyLong());
+        when(treeRepository.findById(anyLong())).thenReturn(Optional.of(testTree));
 
         treeService.deleteTree(1L);
 
-        verify(treeRepository).deleteById(1L);
+        InOrder order = inOrder(harvestRepository, treeRepository);
+        order.verify(harvestRepository).subtractDetailsByTreeId(1L);
+        order.verify(treeRepository).delete(testTree);
+        verify(fieldRepository).decrementTreeCount(1L, 1);
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent tree")
     void shouldThrowExceptionWhenDeletingNonExistentTree() {
-        when(treeRepository.existsById(anyLong())).thenReturn(false);
+        when(treeRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
                 treeService.deleteTree(1L)
         );
 
-        verify(treeRepository, never()).deleteById(anyLong());
+        verify(treeRepository, never()).delete(any(Tree.class));
+        verify(harvestRepository, never()).subtractDetailsByTreeId(anyLong());
     }
 
     @Test
@@ -0,0 +1,125 @@
+package org.system.citronix.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.system.citronix.dto.response.FarmForecastResponse;
+import org.system.citronix.dto.response.FieldYieldForecast;
+import org.system.citronix.dto.response.YieldForecastYear;
+import org.system.citronix.entity.Tree;
+import org.system.citronix.enums.ProductivityTierEnum;
+import org.system.citronix.exception.BusinessException;
+import org.system.citronix.exception.ResourceNotFoundException;
+import org.system.citronix.repository.FarmRepository;
+import org.system.citronix.repository.TreePlantingRepository;
+import org.system.citronix.repository.projection.TreePlantings;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class YieldForecastServiceImplTest {
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private TreePlantingRepository treePlantingRepository;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-02-29T00:00:00Z"), ZoneOffset.UTC);
+
+    @InjectMocks
+    private YieldForecastServiceImpl yieldForecastService;
+
+    private final LocalDate today = LocalDate.of(2024, 2, 29);
+
+    @Test
+    @DisplayName("Should match per-tree productivity for every field and year")
+    void shouldMatchPerTreeProductivity() {
+        // Three fields, the middle one empty, with plant dates spanning 30 years back and one year ahead
+        Random random = new Random(7);
+        int[] days = new int[2000];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = (int) today.minusDays(random.nextInt(31 * 365)).plusYears(1).toEpochDay();
+        }
+        Arrays.sort(days, 0, 1200);
+        Arrays.sort(days, 1200, 2000);
+        TreePlantings plantings = new TreePlantings(new long[]{1L, 2L, 3L}, new int[]{0, 1200, 1200, 2000}, days);
+
+        when(farmRepository.existsById(1L)).thenReturn(true);
+        when(treePlantingRepository.findPlantingsByFarmId(1L)).thenReturn(plantings);
+
+        FarmForecastResponse response = yieldForecastService.forecastFarmYield(1L, 10);
+
+        assertThat(response.getTotalTrees()).isEqualTo(2000L);
+        assertThat(response.getYears()).hasSize(10);
+        assertThat(response.getFields()).extracting(FieldYieldForecast::getFieldId).containsExactly(1L, 2L, 3L);
+        assertThat(response.getFields().get(1).getYears())
+                .allSatisfy(year -> assertThat(year.getExpectedQuantity()).isZero());
+
+        for (int year = 0; year < 10; year++) {
+            LocalDate date = today.plusYears(year + 1);
+            YieldForecastYear farmYear = response.getYears().get(year);
+            assertThat(farmYear.getDate()).isEqualTo(date);
+            assertThat(farmYear.getExpectedQuantity()).isCloseTo(expectedQuantity(days, 0, 2000, date), within(1e-6));
+            assertThat(response.getFields().get(0).getYears().get(year).getExpectedQuantity())
+                    .isCloseTo(expectedQuantity(days, 0, 1200, date), within(1e-6));
+            assertThat(farmYear.getTreesByTier().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2000L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should move trees into the retired tier past the maximum age")
+    void shouldRetireTreesPastMaximumAge() {
+        int plantDay = (int) today.minusYears(19).toEpochDay();
+        TreePlantings plantings = new TreePlantings(new long[]{1L}, new int[]{0, 1}, new int[]{plantDay});
+
+        when(farmRepository.existsById(1L)).thenReturn(true);
+        when(treePlantingRepository.findPlantingsByFarmId(1L)).thenReturn(plantings);
+
+        FarmForecastResponse response = yieldForecastService.forecastFarmYield(1L, 2);
+
+        assertThat(response.getYears().get(0).getTreesByTier()).containsEntry(ProductivityTierEnum.OLD, 1L);
+        assertThat(response.getYears().get(1).getTreesByTier()).containsEntry(ProductivityTierEnum.RETIRED, 1L);
+        assertThat(response.getYears().get(1).getExpectedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject forecast for unknown farm")
+    void shouldRejectForecastForUnknownFarm() {
+        when(farmRepository.existsById(anyLong())).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> yieldForecastService.forecastFarmYield(1L, 10));
+        verify(treePlantingRepository, never()).findPlantingsByFarmId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reject forecast horizon out of range")
+    void shouldRejectForecastHorizonOutOfRange() {
+        assertThrows(BusinessException.class, () -> yieldForecastService.forecastFarmYield(1L, 0));
+        verify(farmRepository, never()).existsById(anyLong());
+    }
+
+    private double expectedQuantity(int[] days, int start, int end, LocalDate date) {
+        double quantity = 0.0;
+        for (int i = start; i < end; i++) {
+            quantity += Tree.builder().plantDate(LocalDate.ofEpochDay(days[i])).build().getProductivity(date);
+        }
+        return quantity;
+    }
+}
@@ -0,0 +1,47 @@
+package org.system.citronix.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.system.citronix.entity.Tree;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeAgeTableTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "2024-02-29, 2020-02-29",
+            "2024-02-29, 2023-03-01",
+            "2024-02-29, 2023-02-28",
+            "2025-02-28, 2024-02-29",
+            "2025-03-01, 2024-02-29",
+            "2024-06-15, 2021-06-15",
+            "2024-06-15, 2021-06-16",
+            "2024-06-15, 2013-06-15",
+            "2024-06-15, 2003-06-15",
+            "2024-06-15, 2003-06-16",
+            "2024-06-15, 1900-01-01",
+            "2024-06-15, 2024-09-01"
+    })
+    void ageAndProductivity_MatchTreeCalculation(LocalDate referenceDate, LocalDate plantDate) {
+        TreeAgeTable table = TreeAgeTable.of(referenceDate);
+        Tree tree = Tree.builder().plantDate(plantDate).build();
+
+        assertEquals(tree.getAge(referenceDate), table.ageOf(plantDate));
+        assertEquals(tree.getProductivity(referenceDate), table.productivityOf(plantDate));
+    }
+
+    @Test
+    void ageOf_EveryDayOverThirtyYears_MatchesTreeCalculation() {
+        LocalDate referenceDate = LocalDate.of(2024, 2, 29);
+        TreeAgeTable table = TreeAgeTable.of(referenceDate);
+
+        for (LocalDate plantDate = referenceDate.minusYears(30); !plantDate.isAfter(referenceDate); plantDate = plantDate.plusDays(1)) {
+            Tree tree = Tree.builder().plantDate(plantDate).build();
+            assertEquals(tree.getAge(referenceDate), table.ageOf(plantDate), plantDate.toString());
+        }
+    }
+}
@@ -9,7 +9,6 @@ import org.system.citronix.exception.BusinessException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,24 +31,26 @@ class ValidationUtilTest {
 
     @Test
     void validateFarmFields_ValidFields_NoException() {
-        Farm farm = new Farm();
-        farm.setArea(100.0);
-        farm.setFields(new ArrayList<>());
-
-        assertDoesNotThrow(() -> ValidationUtil.validateFarmFields(farm, 20.0));
+        assertDoesNotThrow(() -> ValidationUtil.validateFarmFields(2));
     }
 
     @Test
     void validateFarmFields_TooManyFields_ThrowsException() {
+        assertThrows(BusinessException.class, () -> ValidationUtil.validateFarmFields(10));
+    }
+
+    @Test
+    void validateFarmAreaAllocated_Allocated_NoException() {
+        assertDoesNotThrow(() -> ValidationUtil.validateFarmAreaAllocated(true, new Farm()));
+    }
+
+    @Test
+    void validateFarmAreaAllocated_NotAllocated_ThrowsException() {
         Farm farm = new Farm();
         farm.setArea(100.0);
-        List<Field> fields = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            fields.add(new Field());
-        }
-        farm.setFields(fields);
+        farm.setAllocatedArea(85.0);
 
-        assertThrows(BusinessException.class, () -> ValidationUtil.validateFarmFields(farm, 20.0));
+        assertThrows(BusinessException.class, () -> ValidationUtil.validateFarmAreaAllocated(false, farm));
     }
 
     @Test
@@ -111,6 +112,16 @@ class ValidationUtilTest {
         assertThrows(BusinessException.class, () -> ValidationUtil.validateTreeDensity(field, 101));
     }
 
+    @Test
+    void validateTreeDensity_UsesStoredTreeCount() {
+        Field field = new Field();
+        field.setArea(1.0); // 1 hectare
+        field.setTreeCount(99);
+
+        assertDoesNotThrow(() -> ValidationUtil.validateTreeDensity(field, 1));
+        assertThrows(BusinessException.class, () -> ValidationUtil.validateTreeDensity(field, 2));
+    }
+
     @Test
     void validateHarvestSeason_ValidSeason_NoException() {
         Harvest harvest = new Harvest();